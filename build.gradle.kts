@@ -7,6 +7,7 @@ plugins {
 	id("org.sonarqube") version "6.2.0.5505"
 	id("io.freefair.lombok") version "9.0.0"
 	id("io.sentry.jvm.gradle") version "5.12.1"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "hexlet.code"
@@ -35,6 +36,15 @@ repositories {
 	mavenCentral()
 }
 
+// Load suite, kept out of `check`: it boots the app on embedded Postgres and runs for minutes.
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+	runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -42,11 +52,26 @@ dependencies {
 	implementation("org.mapstruct:mapstruct:$mapstructVersion")
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.openapitools:jackson-databind-nullable:0.2.7")
+	implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
 	implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
+	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.github.ben-manes.caffeine:jcache")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
+	implementation("io.micrometer:micrometer-tracing-bridge-otel")
+	implementation("io.opentelemetry:opentelemetry-exporter-otlp")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	implementation("org.bouncycastle:bcprov-jdk18on:1.81")
+	implementation("org.flywaydb:flyway-core")
+	implementation("net.ttddyy:datasource-proxy:1.10")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.13")
 
 	runtimeOnly("com.h2database:h2")
 	runtimeOnly("org.postgresql:postgresql")
+	runtimeOnly("org.flywaydb:flyway-database-postgresql")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
 	annotationProcessor("org.mapstruct:mapstruct-processor:$mapstructVersion")
 
@@ -55,11 +80,21 @@ dependencies {
 	testImplementation("org.instancio:instancio-junit:5.5.1")
 	testImplementation("net.javacrumbs.json-unit:json-unit-assertj:4.1.1")
 	testImplementation ("io.zonky.test:embedded-database-spring-test:2.6.0")
+	testImplementation("io.zonky.test:embedded-postgres:2.1.0")
 	testImplementation("net.datafaker:datafaker:2.5.2")
+	testImplementation("org.awaitility:awaitility")
 
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+jmh {
+	jmhVersion = "1.37"
+	// One JSON file per version, kept in the repo so runs can be compared across releases
+	resultFormat = "JSON"
+	resultsFile = layout.projectDirectory.file("benchmarks/jmh-${project.version}.json")
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
+
 checkstyle {
 	toolVersion = "10.3.4"
 	configFile = rootProject.file("config/checkstyle/checkstyle.xml")
@@ -83,9 +118,63 @@ sentry {
 
 tasks.withType<Test> {
 	useJUnitPlatform()
+}
+
+tasks.test {
 	finalizedBy(tasks.jacocoTestReport)
 }
 
+tasks.register<Test>("loadTest") {
+	description = "Runs the task-manager traffic mix against the app and checks the latency SLOs."
+	group = LifecycleBasePlugin.VERIFICATION_GROUP
+	testClassesDirs = loadTest.output.classesDirs
+	classpath = loadTest.runtimeClasspath
+	// -Pload.users=64 -Pload.duration=5m override application-loadtest.yml
+	systemProperties(providers.gradlePropertiesPrefixedBy("load.").get())
+	outputs.upToDateWhen { false }
+	shouldRunAfter(tasks.test)
+}
+
+// The same traffic mix on platform and virtual request threads at 1k and 5k users. Each run writes
+// build/reports/load-test/<threads>-<users>.json; SLOs are not enforced, pinning still fails a virtual run.
+val threadComparisonRuns = listOf("platform", "virtual").flatMap { threads -> listOf(1000, 5000).map { threads to it } }
+val threadComparisonTasks = threadComparisonRuns.map { (threads, users) ->
+	tasks.register<Test>("loadTest-$threads-$users") {
+		description = "Runs the load test with $users users on $threads request threads."
+		group = LifecycleBasePlugin.VERIFICATION_GROUP
+		testClassesDirs = loadTest.output.classesDirs
+		classpath = loadTest.runtimeClasspath
+		systemProperties(providers.gradlePropertiesPrefixedBy("load.").get())
+		systemProperty("load.users", users)
+		systemProperty("load.profiles", if (threads == "virtual") "virtual" else "")
+		systemProperty("load.report", "$threads-$users")
+		systemProperty("load.enforce-slo", false)
+		outputs.upToDateWhen { false }
+	}
+}
+// One app at a time, or the runs would compete for the same cores.
+threadComparisonTasks.zipWithNext { previous, next -> next.configure { mustRunAfter(previous) } }
+
+tasks.register("loadTestThreadComparison") {
+	description = "Compares platform and virtual request threads at 1k and 5k users."
+	group = LifecycleBasePlugin.VERIFICATION_GROUP
+	dependsOn(threadComparisonTasks)
+	doLast {
+		val reports = layout.buildDirectory.dir("reports/load-test").get().asFile
+		println(String.format("%-16s %-8s %9s %7s %10s %10s %10s", "run", "op", "requests", "errors", "req/s",
+			"p50 ms", "p99 ms"))
+		threadComparisonRuns.forEach { (threads, users) ->
+			@Suppress("UNCHECKED_CAST")
+			val rows = groovy.json.JsonSlurper().parse(reports.resolve("$threads-$users.json")) as List<Map<String, Any>>
+			rows.forEach { row ->
+				println(String.format("%-16s %-8s %9s %7s %10.1f %10.2f %10.2f", "$threads-$users", row["operation"],
+					row["requests"], row["errors"], (row["throughput"] as Number).toDouble(),
+					(row["p50Ms"] as Number).toDouble(), (row["p99Ms"] as Number).toDouble()))
+			}
+		}
+	}
+}
+
 tasks.jacocoTestReport {
 	reports {
 		xml.required.set(true)
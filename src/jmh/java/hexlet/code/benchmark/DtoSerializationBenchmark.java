@@ -0,0 +1,110 @@
+package hexlet.code.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import hexlet.code.config.JacksonConfig;
+import hexlet.code.dto.error.ErrorMessageResponse;
+import hexlet.code.dto.label.LabelResponseDto;
+import hexlet.code.dto.task.TaskBulkResultDto;
+import hexlet.code.dto.task.TaskPageDto;
+import hexlet.code.dto.task.TaskResponseDto;
+import hexlet.code.dto.task_status.TaskStatusResponseDto;
+import hexlet.code.dto.user.UserResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// One response body of each type through the application's ObjectMapper. Whole task lists are covered by
+// TaskSerializationBenchmark.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    private static final LocalDate CREATED_AT = LocalDate.of(2025, 3, 14);
+
+    @Param({"task", "taskPage", "taskBulkResult", "taskStatus", "label", "user", "error"})
+    private String dto;
+
+    private ObjectWriter writer;
+    private Object body;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new JacksonConfig().objectMapperBuilder().build();
+        body = switch (dto) {
+            case "task" -> task();
+            case "taskPage" -> new TaskPageDto(Collections.nCopies(20, task()), "MjAyNS0wMy0xNHw0Mg");
+            case "taskBulkResult" -> TaskBulkResultDto.succeeded(0, HttpStatus.CREATED, task());
+            case "taskStatus" -> taskStatus();
+            case "label" -> label();
+            case "user" -> user();
+            case "error" -> new ErrorMessageResponse("Task with id 42 not found!");
+            default -> throw new IllegalArgumentException("Unknown dto " + dto);
+        };
+        writer = mapper.writerFor(body.getClass());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(body);
+    }
+
+    private static TaskResponseDto task() {
+        var task = new TaskResponseDto();
+        task.setId(42L);
+        task.setIndex(3140);
+        task.setCreatedAt(CREATED_AT);
+        task.setAssigneeId(7L);
+        task.setTitle("Fix the login form layout");
+        task.setContent("The submit button overlaps the password field on narrow screens");
+        task.setStatus("to_review");
+        task.setTaskLabelIds(Set.of(1L, 3L));
+        return task;
+    }
+
+    private static TaskStatusResponseDto taskStatus() {
+        var taskStatus = new TaskStatusResponseDto();
+        taskStatus.setId(2L);
+        taskStatus.setName("To review");
+        taskStatus.setSlug("to_review");
+        taskStatus.setCreatedAt(CREATED_AT);
+        return taskStatus;
+    }
+
+    private static LabelResponseDto label() {
+        var label = new LabelResponseDto();
+        label.setId(3L);
+        label.setName("bug");
+        label.setCreatedAt(CREATED_AT);
+        return label;
+    }
+
+    private static UserResponseDto user() {
+        var user = new UserResponseDto();
+        user.setId(7L);
+        user.setEmail("user@example.com");
+        user.setFirstName("Ada");
+        user.setLastName("Lovelace");
+        user.setCreatedAt(CREATED_AT);
+        return user;
+    }
+}
@@ -0,0 +1,73 @@
+package hexlet.code.benchmark;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import hexlet.code.util.JWTUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.converter.RsaKeyConverters;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// RS256 signing on login and verification on every authenticated request, with the application's key pair
+// and the encoder and decoder set up the way EncryptionConfig does.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private JWTUtils jwtUtils;
+    private JwtDecoder jwtDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() throws IOException {
+        RSAPublicKey publicKey;
+        RSAPrivateKey privateKey;
+        try (InputStream publicPem = new ClassPathResource("certs/public.pem").getInputStream();
+             InputStream privatePem = new ClassPathResource("certs/private.pem").getInputStream()) {
+            publicKey = RsaKeyConverters.x509().convert(publicPem);
+            privateKey = RsaKeyConverters.pkcs8().convert(privatePem);
+        }
+        var jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
+        jwtUtils = new JWTUtils(new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk))));
+        jwtDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        token = encode();
+    }
+
+    @Benchmark
+    public String encode() {
+        return jwtUtils.generateToken(42L, "user@example.com", AUTHORITIES);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+}
@@ -0,0 +1,156 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.dto.task.TaskCreateDto;
+import hexlet.code.dto.task.TaskResponseDto;
+import hexlet.code.mapper.JsonNullableMapperImpl;
+import hexlet.code.mapper.LabelMapper;
+import hexlet.code.mapper.LabelMapperImpl;
+import hexlet.code.mapper.ReferenceMapperImpl;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.mapper.TaskMapperImpl;
+import hexlet.code.mapper.TaskStatusMapperImpl;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.ReflectionUtils;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+// The generated MapStruct mappers, wired by hand. Statuses and labels come from a ReferenceDataCache stub that
+// answers from memory, as a warm second-level cache would, so toEntity measures the mapping alone.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final String STATUS_SLUG = "to_review";
+
+    @Param({"0", "3", "20"})
+    private int labelsPerTask;
+
+    private TaskMapper taskMapper;
+    private LabelMapper labelMapper;
+    private Task task;
+    private TaskCreateDto createDto;
+
+    @Setup
+    public void setUp() {
+        var status = new TaskStatus();
+        status.setId(1L);
+        status.setName("To review");
+        status.setSlug(STATUS_SLUG);
+        Set<Label> labels = LongStream.rangeClosed(1, labelsPerTask)
+                .mapToObj(MapperBenchmark::label)
+                .collect(Collectors.toSet());
+
+        Map<Long, Label> labelsById = labels.stream().collect(Collectors.toMap(Label::getId, Function.identity()));
+        var referenceDataCache = new ReferenceDataCache() {
+            @Override
+            public Optional<TaskStatus> findTaskStatusBySlug(String slug) {
+                return STATUS_SLUG.equals(slug) ? Optional.of(status) : Optional.empty();
+            }
+
+            @Override
+            public Set<Label> findLabelsByIds(Set<Long> ids) {
+                return ids.stream().map(labelsById::get).filter(Objects::nonNull).collect(Collectors.toSet());
+            }
+
+            @Override
+            public void invalidateTaskStatuses() {
+                // Nothing changes during the benchmark.
+            }
+
+            @Override
+            public void invalidateLabels() {
+                // Nothing changes during the benchmark.
+            }
+        };
+
+        var jsonNullableMapper = new JsonNullableMapperImpl();
+        labelMapper = inject(new LabelMapperImpl(), jsonNullableMapper, referenceDataCache);
+        var taskStatusMapper = inject(new TaskStatusMapperImpl(), jsonNullableMapper, referenceDataCache);
+        taskMapper = inject(new TaskMapperImpl(), jsonNullableMapper, new ReferenceMapperImpl(), taskStatusMapper,
+                labelMapper);
+
+        var assignee = new User();
+        assignee.setId(7L);
+        task = new Task();
+        task.setId(42L);
+        task.setIndex(3140);
+        task.setName("Fix the login form layout");
+        task.setDescription("The submit button overlaps the password field on narrow screens");
+        task.setTaskStatus(status);
+        task.setAssignee(assignee);
+        task.setCreatedAt(LocalDate.of(2025, 3, 14));
+        task.setLabels(new HashSet<>(labels));
+
+        // No assignee: resolving one goes through the EntityManager, which is not part of this benchmark.
+        createDto = new TaskCreateDto();
+        createDto.setIndex(3140);
+        createDto.setTitle(task.getName());
+        createDto.setContent(task.getDescription());
+        createDto.setStatus(STATUS_SLUG);
+        createDto.setTaskLabelIds(labels.stream().map(Label::getId).collect(Collectors.toSet()));
+    }
+
+    @Benchmark
+    public TaskResponseDto toResponseDto() {
+        return taskMapper.toResponseDto(task);
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return taskMapper.toEntity(createDto);
+    }
+
+    @Benchmark
+    public Set<Long> getLabelIds() {
+        return labelMapper.getLabelIds(task.getLabels());
+    }
+
+    private static Label label(long id) {
+        var label = new Label();
+        label.setId(id);
+        label.setName("label" + id);
+        return label;
+    }
+
+    // Stands in for the Spring context: sets every @Autowired field, including inherited ones, by type.
+    private static <T> T inject(T target, Object... dependencies) {
+        ReflectionUtils.doWithFields(target.getClass(), field -> {
+            for (Object dependency : dependencies) {
+                if (field.getType().isInstance(dependency)) {
+                    ReflectionUtils.makeAccessible(field);
+                    ReflectionUtils.setField(field, target, dependency);
+                }
+            }
+        }, field -> field.isAnnotationPresent(Autowired.class));
+        return target;
+    }
+}
@@ -0,0 +1,66 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.config.EncryptionConfig;
+import hexlet.code.config.properties.PasswordHashingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// Single-threaded throughput, so the score reads as hashes per second per core for each setting.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    // algorithm:cost, where cost is the bcrypt strength, argon2 memory in KiB or pbkdf2 iterations.
+    @Param({"bcrypt:10", "bcrypt:12", "argon2:16384", "argon2:65536", "pbkdf2:310000", "pbkdf2:600000"})
+    private String setting;
+
+    private PasswordEncoder passwordEncoder;
+    private String digest;
+
+    @Setup
+    public void setUp() {
+        String[] parts = setting.split(":");
+        String algorithm = parts[0];
+        int cost = Integer.parseInt(parts[1]);
+
+        var properties = new PasswordHashingProperties();
+        switch (algorithm) {
+            case PasswordHashingProperties.BCRYPT -> properties.setBcryptStrength(cost);
+            case PasswordHashingProperties.ARGON2 -> properties.setArgon2MemoryKib(cost);
+            case PasswordHashingProperties.PBKDF2 -> properties.setPbkdf2Iterations(cost);
+            default -> throw new IllegalArgumentException("Unknown algorithm " + algorithm);
+        }
+        passwordEncoder = EncryptionConfig.passwordEncoders(properties).get(algorithm);
+        digest = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, digest);
+    }
+}
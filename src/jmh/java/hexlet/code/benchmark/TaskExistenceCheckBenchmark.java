@@ -0,0 +1,116 @@
+package hexlet.code.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// Delete-time reference checks on the migrated schema with 1M tasks, in the SQL shape Hibernate generates
+// for the old count queries and the derived exists queries.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskExistenceCheckBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:existence;DB_CLOSE_DELAY=-1";
+    private static final int TASKS = 1_000_000;
+    private static final int USERS = 1_000;
+    private static final int STATUSES = 5;
+    private static final int LABELS = 20;
+    private static final long REFERENCED_ID = 1;
+
+    @Param({"assignee", "status", "label"})
+    private String reference;
+
+    private Connection connection;
+    private PreparedStatement countQuery;
+    private PreparedStatement existsQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/common")
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (id, email, password) "
+                    + "SELECT X, 'user' || X || '@example.com', 'digest' FROM SYSTEM_RANGE(1, " + USERS + ")");
+            statement.execute("INSERT INTO task_statuses (id, name, slug) "
+                    + "SELECT X, 'Status' || X, 'status_' || X FROM SYSTEM_RANGE(1, " + STATUSES + ")");
+            statement.execute("INSERT INTO labels (id, name) "
+                    + "SELECT X, 'label' || X FROM SYSTEM_RANGE(1, " + LABELS + ")");
+            statement.execute("INSERT INTO tasks (id, name, task_status_id, assignee_id) "
+                    + "SELECT X, 'task' || X, MOD(X, " + STATUSES + ") + 1, MOD(X, " + USERS + ") + 1 "
+                    + "FROM SYSTEM_RANGE(1, " + TASKS + ")");
+            statement.execute("INSERT INTO task_labels (task_id, label_id) "
+                    + "SELECT X, MOD(X, " + LABELS + ") + 1 FROM SYSTEM_RANGE(1, " + TASKS + ")");
+            statement.execute("ANALYZE");
+        }
+
+        switch (reference) {
+            case "assignee" -> prepare(
+                    "SELECT COUNT(t.id) > 0 FROM tasks t WHERE t.assignee_id = ?",
+                    "SELECT t.id FROM tasks t WHERE t.assignee_id = ? FETCH FIRST 1 ROWS ONLY");
+            case "status" -> prepare(
+                    "SELECT COUNT(t.id) > 0 FROM tasks t WHERE t.task_status_id = ?",
+                    "SELECT t.id FROM tasks t WHERE t.task_status_id = ? FETCH FIRST 1 ROWS ONLY");
+            case "label" -> prepare(
+                    "SELECT COUNT(t.id) > 0 FROM tasks t JOIN task_labels l ON t.id = l.task_id WHERE l.label_id = ?",
+                    "SELECT t.id FROM tasks t JOIN task_labels l ON t.id = l.task_id WHERE l.label_id = ? "
+                            + "FETCH FIRST 1 ROWS ONLY");
+            default -> throw new IllegalArgumentException("Unknown reference " + reference);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean count() throws SQLException {
+        countQuery.setLong(1, REFERENCED_ID);
+        try (ResultSet resultSet = countQuery.executeQuery()) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    @Benchmark
+    public boolean exists() throws SQLException {
+        existsQuery.setLong(1, REFERENCED_ID);
+        try (ResultSet resultSet = existsQuery.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    private void prepare(String count, String exists) throws SQLException {
+        countQuery = connection.prepareStatement(count);
+        existsQuery = connection.prepareStatement(exists);
+    }
+}
@@ -0,0 +1,138 @@
+package hexlet.code.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import hexlet.code.config.JacksonConfig;
+import hexlet.code.dto.task.TaskResponseDto;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Task list serialization throughput with reflective bean serializers against Blackbird, written as the
+// response body would be: identity, or through gzip as server.compression does. The bytes on the wire
+// are reported as the secondary result serialize:bytes, a rate like the primary score; divided by that score it
+// is the size of one response.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskSerializationBenchmark {
+
+    private static final String[] WORDS = {"fix", "add", "remove", "login", "form", "layout", "report", "export",
+        "import", "cache", "query", "index", "user", "label", "status", "button", "page", "error", "timeout", "api"};
+    private static final String[] STATUSES = {"draft", "to_review", "to_be_fixed", "to_publish", "published"};
+
+    @Param({"1000", "10000", "100000"})
+    private int tasks;
+
+    @Param({"reflection", "blackbird"})
+    private String serializer;
+
+    @Param({"identity", "gzip"})
+    private String encoding;
+
+    private ObjectWriter writer;
+    private List<TaskResponseDto> body;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = "blackbird".equals(serializer)
+                ? new JacksonConfig().objectMapperBuilder().build()
+                : new JacksonConfig().objectMapperBuilder()
+                        .modulesToInstall(new JsonNullableModule(), new JavaTimeModule())
+                        .build();
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, TaskResponseDto.class));
+        body = generate(tasks);
+    }
+
+    @Benchmark
+    public long serialize(WireSize wireSize) throws IOException {
+        var counter = new CountingOutputStream();
+        if ("gzip".equals(encoding)) {
+            try (var gzip = new GZIPOutputStream(counter, 8192)) {
+                writer.writeValue(gzip, body);
+            }
+        } else {
+            writer.writeValue(counter, body);
+        }
+        wireSize.bytes += counter.count;
+        return counter.count;
+    }
+
+    private static List<TaskResponseDto> generate(int count) {
+        Random random = new Random(42);
+        List<TaskResponseDto> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            var task = new TaskResponseDto();
+            task.setId((long) i + 1);
+            task.setIndex(random.nextInt(10_000));
+            task.setCreatedAt(LocalDate.of(2024, 1, 1).plusDays(random.nextInt(700)));
+            task.setAssigneeId(random.nextInt(4) == 0 ? null : (long) random.nextInt(500) + 1);
+            task.setTitle(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " ticket-" + random.nextInt(count));
+            task.setContent("Steps: " + WORDS[random.nextInt(WORDS.length)] + " the "
+                    + WORDS[random.nextInt(WORDS.length)] + ", then check the " + WORDS[random.nextInt(WORDS.length)]);
+            task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            Set<Long> labelIds = new HashSet<>();
+            for (int j = random.nextInt(4); j > 0; j--) {
+                labelIds.add((long) random.nextInt(50) + 1);
+            }
+            task.setTaskLabelIds(labelIds);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    // OPERATIONS counters are normalized to time and averaged over iterations like the primary score, so the
+    // ratio of the two holds for the whole run. EVENTS counters are summed over iterations instead.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class WireSize {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    // Discards the payload and keeps only its size, so the benchmark measures encoding and not buffering.
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
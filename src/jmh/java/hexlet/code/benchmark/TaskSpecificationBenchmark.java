@@ -0,0 +1,97 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskFiltrationDto;
+import hexlet.code.model.Label;
+import hexlet.code.model.Role;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.search.DatabaseTaskTitleIndex;
+import hexlet.code.repository.specification.TaskSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of turning a task filter into a criteria query: composing the Specification, and resolving it
+// against Hibernate's metamodel as TaskRepository does on every list request. No query is executed.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSpecificationBenchmark {
+
+    @Param({"none", "title", "assignee,status", "title,assignee,status,label"})
+    private String filters;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+    private TaskSpecification taskSpecification;
+    private TaskFiltrationDto filtration;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Entity callbacks are off: TaskTitleIndexListener needs the Spring context to be constructed.
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Task.class)
+                .addAnnotatedClass(TaskStatus.class)
+                .addAnnotatedClass(Label.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Role.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:specification;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JPA_CALLBACKS_ENABLED, "false")
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+        taskSpecification = new TaskSpecification(new DatabaseTaskTitleIndex());
+
+        filtration = new TaskFiltrationDto();
+        String[] enabled = "none".equals(filters) ? new String[0] : filters.split(",");
+        for (String filter : enabled) {
+            switch (filter) {
+                case "title" -> filtration.setTitleCont("login");
+                case "assignee" -> filtration.setAssigneeId(7L);
+                case "status" -> filtration.setStatus("to_review");
+                case "label" -> filtration.setLabelId(3L);
+                default -> throw new IllegalArgumentException("Unknown filter " + filter);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Specification<Task> build() {
+        return taskSpecification.build(filtration);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Task> toCriteriaQuery() {
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        return query.where(taskSpecification.build(filtration).toPredicate(root, query, cb));
+    }
+}
@@ -0,0 +1,76 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.config.properties.TaskSearchProperties;
+import hexlet.code.repository.search.InMemoryTaskTitleIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// titleCont latency over 1M titles: the in-memory token index against the full scan that a
+// leading-wildcard LIKE performs without a trigram index.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskTitleIndexBenchmark {
+
+    private static final String[] WORDS = {"fix", "add", "remove", "login", "form", "layout", "report", "export",
+        "import", "cache", "query", "index", "user", "label", "status", "button", "page", "error", "timeout", "api"};
+
+    @Param({"1000000"})
+    private int tasks;
+
+    // A rare token, a common token and a phrase spanning two tokens.
+    @Param({"ticket-4242", "login", "port cach"})
+    private String titleCont;
+
+    private InMemoryTaskTitleIndex index;
+    private String[] titles;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        titles = new String[tasks];
+        for (int i = 0; i < tasks; i++) {
+            titles[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " ticket-" + random.nextInt(tasks);
+        }
+        index = new InMemoryTaskTitleIndex(new TaskSearchProperties());
+        index.load(LongStream.range(0, tasks).mapToObj(id -> Map.entry(id, titles[(int) id])));
+    }
+
+    @Benchmark
+    public Optional<Set<Long>> indexSearch() {
+        return index.search(titleCont);
+    }
+
+    @Benchmark
+    public long fullScan() {
+        String query = titleCont.toLowerCase(Locale.ROOT);
+        long matches = 0;
+        for (String title : titles) {
+            if (title.toLowerCase(Locale.ROOT).contains(query)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,48 @@
+package hexlet.code.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+// Raw samples of one operation; a run yields at most a few hundred thousand, so percentiles are exact.
+public class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public synchronized void error() {
+        errors++;
+    }
+
+    public synchronized Summary summarize(String operation, Duration measured) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int total = count + errors;
+        return new Summary(operation, count, errors,
+                count / (measured.toNanos() / 1e9),
+                total == 0 ? 0 : (double) errors / total,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                count == 0 ? Duration.ZERO : Duration.ofNanos(sorted[count - 1]));
+    }
+
+    // Nearest-rank percentile.
+    private static Duration percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Duration.ZERO;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    public record Summary(String operation, int requests, int errors, double throughput, double errorRate,
+                          Duration p50, Duration p99, Duration max) {
+    }
+}
@@ -0,0 +1,21 @@
+package hexlet.code.load;
+
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// test and loadtest, plus the comma-separated -Pload.profiles, e.g. -Pload.profiles=virtual.
+public class LoadTestProfilesResolver implements ActiveProfilesResolver {
+
+    @Override
+    public String[] resolve(Class<?> testClass) {
+        List<String> profiles = new ArrayList<>(List.of("test", "loadtest"));
+        Arrays.stream(System.getProperty("load.profiles", "").split(","))
+                .map(String::trim)
+                .filter(profile -> !profile.isEmpty())
+                .forEach(profiles::add);
+        return profiles.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,41 @@
+package hexlet.code.load;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "load")
+@Setter
+@Getter
+public class LoadTestProperties {
+    // Concurrent virtual users, each with its own account and token.
+    private int users = 32;
+    private int seedTasks = 5000;
+    // Samples taken while the JIT and the connection pool warm up are discarded.
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration requestTimeout = Duration.ofSeconds(10);
+    // Report file name under build/reports/load-test, so runs meant for comparison do not overwrite each other.
+    private String report = "summary";
+    // Off for comparison runs, which record how a setup behaves past its SLOs rather than gate on them.
+    private boolean enforceSlo = true;
+    // Relative weight of each operation in the traffic mix.
+    private Map<String, Integer> mix = new LinkedHashMap<>();
+    private Map<String, Slo> slo = new LinkedHashMap<>();
+
+    @Setter
+    @Getter
+    public static class Slo {
+        private Duration p50;
+        private Duration p99;
+        // Requests per second that the operation must sustain at the configured mix.
+        private double minThroughput;
+        private double maxErrorRate;
+    }
+}
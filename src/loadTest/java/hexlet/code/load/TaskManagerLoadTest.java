@@ -0,0 +1,395 @@
+package hexlet.code.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.TestDataProviderConfig;
+import hexlet.code.TestModelGenerator;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseType;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+import org.assertj.core.api.SoftAssertions;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// Replays a task-manager traffic mix against the running app on embedded Postgres: every virtual user logs
+// in through /api/login, then lists, filters, creates, updates and deletes tasks until the run ends.
+// Prints p50/p99 latency and throughput per operation and fails when an operation misses its SLO. With
+// -Pload.profiles=virtual the app serves on virtual threads, and the run also fails if any of them pinned
+// its carrier thread (JFR jdk.VirtualThreadPinned).
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = LoadTestProfilesResolver.class)
+@AutoConfigureEmbeddedDatabase(type = DatabaseType.POSTGRES, provider = DatabaseProvider.ZONKY)
+@Import({TestDataProviderConfig.class, TestModelGenerator.class, LoadTestProperties.class})
+class TaskManagerLoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final Path REPORTS = Path.of("build", "reports", "load-test");
+    // Client threads; pinning is only checked on the app's threads.
+    private static final String CLIENT_THREAD_PREFIX = "load-user-";
+    private static final int PINNED_FRAMES = 8;
+
+    @LocalServerPort
+    private int port;
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private LoadTestProperties properties;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TestModelGenerator testModelGenerator;
+    @Autowired
+    private Faker faker;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private LabelRepository labelRepository;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final List<String> pinnedStacks = Collections.synchronizedList(new ArrayList<>());
+
+    private List<User> users;
+    private List<String> statusSlugs;
+    private List<Long> labelIds;
+    private List<Long> seededTaskIds;
+
+    @BeforeEach
+    void seed() {
+        users = new ArrayList<>();
+        for (int i = 0; i < properties.getUsers(); i++) {
+            User user = Instancio.of(testModelGenerator.getUserModel()).create();
+            user.setEmail("load-user-" + i + "@example.com");
+            user.setPasswordDigest(passwordEncoder.encode(PASSWORD));
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+
+        List<TaskStatus> statuses = taskStatusRepository.findAll();
+        List<Label> labels = labelRepository.findAll();
+        statusSlugs = statuses.stream().map(TaskStatus::getSlug).toList();
+        labelIds = labels.stream().map(Label::getId).toList();
+
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>(properties.getSeedTasks());
+        for (int i = 0; i < properties.getSeedTasks(); i++) {
+            Task task = Instancio.of(testModelGenerator.getTaskModel()).create();
+            task.setName(faker.lorem().sentence(4));
+            task.setTaskStatus(statuses.get(random.nextInt(statuses.size())));
+            task.setAssignee(users.get(random.nextInt(users.size())));
+            task.setLabels(new HashSet<>(labels.subList(0, random.nextInt(labels.size() + 1))));
+            tasks.add(task);
+        }
+        seededTaskIds = taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+    }
+
+    @Test
+    void taskManagerTrafficMeetsSlo() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (User user : users) {
+            tokens.add(login(user.getEmail()));
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + properties.getWarmup().toNanos();
+        long deadline = measureFrom + properties.getDuration().toNanos();
+        try (var pinning = new RecordingStream();
+             var executor = Executors.newThreadPerTaskExecutor(
+                     Thread.ofVirtual().name(CLIENT_THREAD_PREFIX, 0).factory())) {
+            pinning.enable("jdk.VirtualThreadPinned").withStackTrace();
+            pinning.onEvent("jdk.VirtualThreadPinned", this::recordPinned);
+            pinning.startAsync();
+            int userCount = tokens.size();
+            for (int i = 0; i < userCount; i++) {
+                // Every seeded task is updated by one user only, so concurrent updates never race on its version.
+                List<Long> updatableTaskIds = IntStream.iterate(i, k -> k < seededTaskIds.size(), k -> k + userCount)
+                        .mapToObj(seededTaskIds::get)
+                        .toList();
+                var virtualUser = new VirtualUser(tokens.get(i), users.get(i).getId(), updatableTaskIds, new Random(i));
+                executor.submit(() -> virtualUser.run(measureFrom, deadline));
+            }
+            executor.shutdown();
+            long grace = properties.getRequestTimeout().toNanos() * 2;
+            if (!executor.awaitTermination(deadline - System.nanoTime() + grace, TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("Virtual users did not finish within the request timeout");
+            }
+            pinning.stop();
+        }
+
+        List<LatencyRecorder.Summary> summaries = properties.getMix().keySet().stream()
+                .map(operation -> recorder(operation).summarize(operation, properties.getDuration()))
+                .toList();
+        report(summaries);
+
+        var softly = new SoftAssertions();
+        if (virtualThreads) {
+            softly.assertThat(pinnedStacks).as("virtual threads that pinned their carrier").isEmpty();
+        }
+        if (!properties.isEnforceSlo()) {
+            softly.assertAll();
+            return;
+        }
+        for (LatencyRecorder.Summary summary : summaries) {
+            LoadTestProperties.Slo slo = properties.getSlo().get(summary.operation());
+            if (slo == null) {
+                continue;
+            }
+            softly.assertThat(summary.requests()).as("%s requests", summary.operation()).isPositive();
+            softly.assertThat(summary.errorRate()).as("%s error rate", summary.operation())
+                    .isLessThanOrEqualTo(slo.getMaxErrorRate());
+            softly.assertThat(summary.throughput()).as("%s throughput, req/s", summary.operation())
+                    .isGreaterThanOrEqualTo(slo.getMinThroughput());
+            if (slo.getP50() != null) {
+                softly.assertThat(summary.p50()).as("%s p50", summary.operation()).isLessThanOrEqualTo(slo.getP50());
+            }
+            if (slo.getP99() != null) {
+                softly.assertThat(summary.p99()).as("%s p99", summary.operation()).isLessThanOrEqualTo(slo.getP99());
+            }
+        }
+        softly.assertAll();
+    }
+
+    private void recordPinned(RecordedEvent event) {
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "";
+        if (thread != null && thread.startsWith(CLIENT_THREAD_PREFIX)) {
+            return;
+        }
+        String stack = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+                .limit(PINNED_FRAMES)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n    at ", "\n    at ", ""));
+        log.warn("Virtual thread {} pinned its carrier for {}{}", thread, event.getDuration(), stack);
+        pinnedStacks.add(thread + stack);
+    }
+
+    private String login(String email) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                json(request("/api/login"), "POST", Map.of("username", email, "password", PASSWORD)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != HttpStatus.OK.value()) {
+            throw new IllegalStateException("Login failed for " + email + ": " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private void report(List<LatencyRecorder.Summary> summaries) throws IOException {
+        var table = new StringBuilder(String.format("%n%-8s %9s %7s %10s %10s %10s %10s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (LatencyRecorder.Summary summary : summaries) {
+            table.append(String.format("%-8s %9d %7d %10.1f %10.2f %10.2f %10.2f%n", summary.operation(),
+                    summary.requests(), summary.errors(), summary.throughput(), millis(summary.p50()),
+                    millis(summary.p99()), millis(summary.max())));
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("operation", summary.operation());
+            row.put("requests", summary.requests());
+            row.put("errors", summary.errors());
+            row.put("throughput", summary.throughput());
+            row.put("p50Ms", millis(summary.p50()));
+            row.put("p99Ms", millis(summary.p99()));
+            row.put("maxMs", millis(summary.max()));
+            rows.add(row);
+        }
+        log.info("Load test: {} users on {} threads for {} after {} warmup, {} pinning events{}",
+                properties.getUsers(), virtualThreads ? "virtual" : "platform", properties.getDuration(),
+                properties.getWarmup(), pinnedStacks.size(), table);
+        Files.createDirectories(REPORTS);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(REPORTS.resolve(properties.getReport() + ".json").toFile(), rows);
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+
+    private LatencyRecorder recorder(String operation) {
+        return recorders.computeIfAbsent(operation, key -> new LatencyRecorder());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(properties.getRequestTimeout());
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder request, String method, Object body)
+            throws JsonProcessingException {
+        return request.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    }
+
+    private final class VirtualUser {
+        private final String token;
+        private final Long userId;
+        // This user's share of the seeded tasks.
+        private final List<Long> updatableTaskIds;
+        private final Random random;
+        private final String[] operations;
+        private final int[] cumulativeWeights;
+        // Tasks this user created and has not deleted yet; deletes never touch the seeded tasks.
+        private final Deque<Long> ownTaskIds = new ArrayDeque<>();
+
+        VirtualUser(String token, Long userId, List<Long> updatableTaskIds, Random random) {
+            this.token = token;
+            this.userId = userId;
+            this.updatableTaskIds = updatableTaskIds;
+            this.random = random;
+            operations = properties.getMix().keySet().toArray(String[]::new);
+            cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += properties.getMix().get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        void run(long measureFrom, long deadline) {
+            while (System.nanoTime() < deadline) {
+                String operation = nextOperation();
+                if ("delete".equals(operation) && ownTaskIds.isEmpty()
+                        || "update".equals(operation) && updatableTaskIds.isEmpty() && ownTaskIds.isEmpty()) {
+                    operation = "create";
+                }
+                long started = System.nanoTime();
+                HttpResponse<String> response;
+                try {
+                    response = httpClient.send(build(operation), HttpResponse.BodyHandlers.ofString());
+                } catch (IOException e) {
+                    response = null;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long elapsed = System.nanoTime() - started;
+
+                boolean succeeded = response != null && response.statusCode() / 100 == 2;
+                if (succeeded && "create".equals(operation)) {
+                    ownTaskIds.push(readId(response.body()));
+                }
+                if (started >= measureFrom) {
+                    if (succeeded) {
+                        recorder(operation).record(elapsed);
+                    } else {
+                        recorder(operation).error();
+                    }
+                }
+            }
+        }
+
+        private String nextOperation() {
+            int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            throw new IllegalStateException("Traffic mix is empty");
+        }
+
+        private HttpRequest build(String operation) throws JsonProcessingException {
+            HttpRequest.Builder request = switch (operation) {
+                case "list" -> request("/api/tasks?limit=100").GET();
+                case "filter" -> request("/api/tasks?limit=100" + filter()).GET();
+                case "create" -> json(request("/api/tasks"), "POST", Map.of(
+                        "title", faker.lorem().sentence(4),
+                        "content", faker.lorem().paragraph(),
+                        "status", randomOf(statusSlugs),
+                        "assignee_id", userId,
+                        "taskLabelIds", List.of(randomOf(labelIds))));
+                case "update" -> json(request("/api/tasks/" + taskToUpdate()), "PUT", Map.of(
+                        "title", faker.lorem().sentence(4),
+                        "status", randomOf(statusSlugs)));
+                case "delete" -> request("/api/tasks/" + ownTaskIds.pop()).DELETE();
+                default -> throw new IllegalArgumentException("Unknown operation " + operation);
+            };
+            return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token).build();
+        }
+
+        // The filter shapes the task list UI sends: by status, by assignee, by label, or by a title fragment.
+        private String filter() {
+            return switch (random.nextInt(4)) {
+                case 0 -> "&status=" + randomOf(statusSlugs);
+                case 1 -> "&assigneeId=" + randomOf(users).getId();
+                case 2 -> "&labelId=" + randomOf(labelIds);
+                default -> "&titleCont=" + URLEncoder.encode(faker.lorem().word(), StandardCharsets.UTF_8);
+            };
+        }
+
+        // Users with no seeded share, when there are more users than seeded tasks, update their own tasks.
+        private Long taskToUpdate() {
+            return updatableTaskIds.isEmpty() ? ownTaskIds.peek() : randomOf(updatableTaskIds);
+        }
+
+        private <T> T randomOf(List<T> values) {
+            return values.get(random.nextInt(values.size()));
+        }
+
+        private Long readId(String body) {
+            try {
+                return objectMapper.readTree(body).get("id").asLong();
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unexpected create response " + body, e);
+            }
+        }
+    }
+}
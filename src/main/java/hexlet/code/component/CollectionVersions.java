@@ -0,0 +1,37 @@
+package hexlet.code.component;
+
+import hexlet.code.repository.CollectionVersionRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+// Per-collection change counters behind the ETags of the reference list endpoints. A matching
+// If-None-Match is answered after reading the counter alone, without loading or serializing the list.
+// Counters are rows in collection_versions bumped in the write's own transaction, so every instance sees a
+// change as soon as it commits, and no sooner.
+@Component
+@RequiredArgsConstructor
+public class CollectionVersions {
+
+    public static final String LABELS = "labels";
+    public static final String TASK_STATUSES = "task_statuses";
+    public static final String USERS = "users";
+
+    // Clients may keep a cached copy but have to revalidate it on every use.
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final CollectionVersionRepository collectionVersionRepository;
+
+    // Read before the list: a write committing in between tags the new rows with the old version, which only
+    // costs the client one more full response on its next request.
+    public String etag(String collection) {
+        return collection + "-" + collectionVersionRepository.findVersion(collection);
+    }
+
+    // The row stays locked until the write commits, so concurrent writes to one collection bump it in turn.
+    @Transactional
+    public void bump(String collection) {
+        collectionVersionRepository.increment(collection);
+    }
+}
@@ -0,0 +1,92 @@
+package hexlet.code.component;
+
+import hexlet.code.config.properties.LoginThrottleProperties;
+import hexlet.code.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Caps how many request threads can be busy hashing passwords, so a login burst cannot occupy
+// the whole servlet pool. Callers over the wait queue limit fail fast with 429.
+@Slf4j
+@Component
+public class CredentialVerificationLimiter {
+
+    private final LoginThrottleProperties properties;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer queueWaitTimer;
+    private final Timer verificationTimer;
+    private final Counter rejectedCounter;
+
+    public CredentialVerificationLimiter(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConcurrent(), true);
+        this.queueWaitTimer = Timer.builder("auth.login.queue.wait")
+                .description("Time a login waited for a credential verification slot")
+                .register(meterRegistry);
+        this.verificationTimer = Timer.builder("auth.login.verification")
+                .description("Time spent verifying credentials, password hashing included")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.login.rejected")
+                .description("Logins rejected because verification capacity was exhausted")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.queue.depth", waiting, AtomicInteger::get)
+                .description("Logins waiting for a credential verification slot")
+                .register(meterRegistry);
+    }
+
+    public <T> T verify(Supplier<T> verification) {
+        // Unlike tryAcquire(), a zero-timeout acquire respects fairness: it fails while others are queued,
+        // so a new login cannot overtake the ones already waiting.
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject();
+        }
+        if (!acquired) {
+            acquireQueued();
+        }
+        try {
+            return verificationTimer.record(verification);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquireQueued() {
+        if (waiting.incrementAndGet() > properties.getMaxQueue()) {
+            waiting.decrementAndGet();
+            reject();
+        }
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire(properties.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waiting.decrementAndGet();
+            queueWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            reject();
+        }
+    }
+
+    private void reject() {
+        rejectedCounter.increment();
+        log.warn("Reject login: credential verification capacity exhausted");
+        throw new TooManyRequestsException("Too many login attempts, retry later", properties.getRetryAfter());
+    }
+}
@@ -28,6 +28,7 @@ public class DataInitializer implements ApplicationRunner {
     private final RoleRepository roleRepository;
     private final TaskStatusRepository taskStatusRepository;
     private final LabelRepository labelRepository;
+    private final CollectionVersions collectionVersions;
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
@@ -91,6 +92,7 @@ public class DataInitializer implements ApplicationRunner {
             taskStatus.setName(name);
             taskStatus.setSlug(slug);
             taskStatusRepository.save(taskStatus);
+            collectionVersions.bump(CollectionVersions.TASK_STATUSES);
         }
     }
 
@@ -99,6 +101,7 @@ public class DataInitializer implements ApplicationRunner {
             var label = new Label();
             label.setName(name);
             labelRepository.save(label);
+            collectionVersions.bump(CollectionVersions.LABELS);
         }
     }
 }
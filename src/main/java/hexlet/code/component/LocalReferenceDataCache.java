@@ -0,0 +1,100 @@
+package hexlet.code.component;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskStatusRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Caches within this instance only. Rows are loaded by id, which the Hibernate second-level cache serves when it
+// holds them and which is a primary-key read otherwise; either way the entities are managed by the current session.
+// The Spring cache only remembers which id a slug resolves to, because the second-level cache is keyed by id.
+@Component
+@RequiredArgsConstructor
+public class LocalReferenceDataCache implements ReferenceDataCache {
+
+    public static final String TASK_STATUSES_BY_SLUG_CACHE = "task-statuses-by-slug";
+
+    private final CacheManager cacheManager;
+    private final TaskStatusRepository taskStatusRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<TaskStatus> findTaskStatusBySlug(String slug) {
+        Cache cache = getCache(TASK_STATUSES_BY_SLUG_CACHE);
+        Long cachedId = cache.get(slug, Long.class);
+        if (cachedId != null) {
+            TaskStatus cached = entityManager.find(TaskStatus.class, cachedId);
+            // The id may belong to a status that has been renamed or deleted since it was cached.
+            if (cached != null && slug.equals(cached.getSlug())) {
+                return Optional.of(cached);
+            }
+            cache.evict(slug);
+        }
+        Optional<TaskStatus> taskStatus = taskStatusRepository.findBySlug(slug);
+        taskStatus.ifPresent(status -> cache.put(slug, status.getId()));
+        return taskStatus;
+    }
+
+    // Ids found in the second-level cache are not queried; the rest are loaded with one batched select.
+    @Override
+    public Set<Label> findLabelsByIds(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Label.class)
+                .multiLoad(new ArrayList<>(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    // Hibernate already keeps this instance's second-level cache in step with its own commits. Evicting the region
+    // as well is what makes the hooks correct when they relay a write committed by another instance.
+    @Override
+    public void invalidateTaskStatuses() {
+        evictAfterTransaction(() -> {
+            getCache(TASK_STATUSES_BY_SLUG_CACHE).clear();
+            entityManager.getEntityManagerFactory().getCache().evict(TaskStatus.class);
+        });
+    }
+
+    @Override
+    public void invalidateLabels() {
+        evictAfterTransaction(() -> entityManager.getEntityManagerFactory().getCache().evict(Label.class));
+    }
+
+    // Evicting before the transaction ends would let a concurrent reader cache the old row again.
+    private void evictAfterTransaction(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                eviction.run();
+            }
+        });
+    }
+
+    private Cache getCache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache " + name + " is not configured");
+    }
+}
@@ -0,0 +1,23 @@
+package hexlet.code.component;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+
+import java.util.Optional;
+import java.util.Set;
+
+// Task statuses and labels are tiny, read-mostly tables looked up on every task write.
+// Writers call the invalidate hooks once their change is made; an implementation shared by several instances
+// forwards them to its peers, and receiving one from a peer means calling the same hook locally.
+public interface ReferenceDataCache {
+
+    Optional<TaskStatus> findTaskStatusBySlug(String slug);
+
+    // Ids that do not exist are left out of the result.
+    Set<Label> findLabelsByIds(Set<Long> ids);
+
+    // A status may change its slug, so any status write invalidates all of them.
+    void invalidateTaskStatuses();
+
+    void invalidateLabels();
+}
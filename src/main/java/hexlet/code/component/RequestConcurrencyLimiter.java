@@ -0,0 +1,74 @@
+package hexlet.code.component;
+
+import hexlet.code.config.properties.RequestConcurrencyProperties;
+import hexlet.code.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Bounds the API requests in flight when request threads are virtual and no longer cap them. Each request
+// holds a permit until its handler returns; streams and exports release it once they go async.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.web.concurrency", name = "max-concurrent")
+public class RequestConcurrencyLimiter implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = RequestConcurrencyLimiter.class.getName() + ".permit";
+
+    private final RequestConcurrencyProperties properties;
+    private final Semaphore permits;
+    private final Counter rejectedCounter;
+
+    public RequestConcurrencyLimiter(RequestConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConcurrent(), true);
+        this.rejectedCounter = Counter.builder("app.web.rejected")
+                .description("API requests rejected because max-concurrent requests were already in flight")
+                .register(meterRegistry);
+        Gauge.builder("app.web.in.flight", permits, p -> properties.getMaxConcurrent() - p.availablePermits())
+                .description("API requests holding a concurrency permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        // The timed acquire queues behind earlier waiters, unlike the barging untimed tryAcquire().
+        if (!permits.tryAcquire(properties.getMaxWait().toNanos(), TimeUnit.NANOSECONDS)) {
+            rejectedCounter.increment();
+            log.warn("Reject {} {}: {} requests already in flight", request.getMethod(), request.getRequestURI(),
+                    properties.getMaxConcurrent());
+            throw new TooManyRequestsException("Server is busy, retry later", properties.getRetryAfter());
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package hexlet.code.component;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Declares how many SQL statements one call of the endpoint may issue, overriding app.sql.budget.max-statements.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+    int statements();
+}
@@ -0,0 +1,111 @@
+package hexlet.code.component;
+
+import hexlet.code.config.properties.SqlBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Counts the statements and database time of each request and checks them against the endpoint's budget.
+// Work a StreamingResponseBody does after the handler returns runs on another thread and is not counted.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private final SqlStatementRecorder recorder;
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        recorder.start();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        recorder.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        SqlStatementRecorder.Recording recording = recorder.stop();
+        if (recording == null) {
+            return;
+        }
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("app.sql.statements")
+                .description("SQL statements issued per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(recording.getStatements());
+        Timer.builder("app.sql.time")
+                .description("Database time per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(recording.getTimeMillis()));
+
+        int statementBudget = statementBudget(handler);
+        if (recording.getStatements() > statementBudget) {
+            String violation = String.format("%s %s issued %d SQL statements, budget is %d",
+                    method, uri, recording.getStatements(), statementBudget);
+            exceeded(method, uri, "statements", violation);
+            if (properties.isFailOnExceed()) {
+                violations.add(violation);
+            }
+        }
+        if (recording.getTimeMillis() > properties.getMaxTime().toMillis()) {
+            exceeded(method, uri, "time", String.format("%s %s spent %d ms in the database, budget is %d ms",
+                    method, uri, recording.getTimeMillis(), properties.getMaxTime().toMillis()));
+        }
+    }
+
+    // Statement budget violations recorded since the last call, in test mode.
+    public List<String> drainViolations() {
+        List<String> drained = new ArrayList<>();
+        for (String violation = violations.poll(); violation != null; violation = violations.poll()) {
+            drained.add(violation);
+        }
+        return drained;
+    }
+
+    private int statementBudget(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            SqlBudget budget = handlerMethod.getMethodAnnotation(SqlBudget.class);
+            if (budget != null) {
+                return budget.statements();
+            }
+        }
+        return properties.getMaxStatements();
+    }
+
+    private void exceeded(String method, String uri, String budget, String message) {
+        log.warn("SQL budget exceeded: {}", message);
+        Counter.builder("app.sql.budget.exceeded")
+                .description("Requests over their SQL statement or time budget")
+                .tags("method", method, "uri", uri, "budget", budget)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,79 @@
+package hexlet.code.component;
+
+import hexlet.code.config.properties.SqlBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Fed by the proxied DataSource (see DataSourceConfig). Statements are only tallied on threads that started
+// a recording, which SqlBudgetInterceptor does for each request; a JDBC batch counts as one statement.
+@Slf4j
+@Component
+public class SqlStatementRecorder {
+
+    private final ThreadLocal<Recording> current = new ThreadLocal<>();
+    private final SqlBudgetProperties properties;
+    private final Counter slowStatementCounter;
+
+    public SqlStatementRecorder(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.slowStatementCounter = Counter.builder("app.sql.slow")
+                .description("SQL statements slower than app.sql.budget.slow-statement")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        current.set(new Recording(false));
+    }
+
+    // Also keeps every statement as sent, with its bind parameters, e.g. to EXPLAIN what Hibernate generated.
+    public void startCapturing() {
+        current.set(new Recording(true));
+    }
+
+    public Recording stop() {
+        Recording recording = current.get();
+        current.remove();
+        return recording;
+    }
+
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Recording recording = current.get();
+        if (recording != null) {
+            recording.statements++;
+            recording.timeMillis += execInfo.getElapsedTime();
+            if (recording.queries != null) {
+                recording.queries.addAll(queryInfoList);
+            }
+        }
+        if (execInfo.getElapsedTime() >= properties.getSlowStatement().toMillis()) {
+            slowStatementCounter.increment();
+            log.warn("Slow SQL statement ({} ms): {}", execInfo.getElapsedTime(), queryInfoList.stream()
+                    .map(QueryInfo::getQuery)
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    @Getter
+    public static class Recording {
+        private int statements;
+        private long timeMillis;
+        private final List<QueryInfo> queries;
+
+        Recording(boolean capture) {
+            this.queries = capture ? new ArrayList<>() : null;
+        }
+
+        public List<QueryInfo> getQueries() {
+            return queries != null ? queries : List.of();
+        }
+    }
+}
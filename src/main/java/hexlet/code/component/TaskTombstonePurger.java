@@ -0,0 +1,31 @@
+package hexlet.code.component;
+
+import hexlet.code.config.properties.TaskSyncProperties;
+import hexlet.code.repository.TaskTombstoneRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+// Drops tombstones older than the retention; GET /api/tasks/changes answers 410 for tokens that old.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskTombstonePurger {
+
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskSyncProperties properties;
+
+    @Scheduled(cron = "${app.sync.purge-cron:0 30 * * * *}")
+    @Transactional
+    public void purge() {
+        Instant before = Instant.now().minus(properties.getTombstoneRetention());
+        int purged = taskTombstoneRepository.deleteDeletedBefore(before);
+        if (purged > 0) {
+            log.info("Purged {} task tombstones", purged);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package hexlet.code.component.outbox;
+
+import hexlet.code.dto.task.TaskEventDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// In-process delivery: each event reaches the @EventListener(TaskEventDto) methods synchronously, on the
+// relay thread and inside its transaction, so a failing listener makes the batch retry.
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventTaskEventSink implements TaskEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String name() {
+        return "application";
+    }
+
+    @Override
+    public void publish(List<TaskEventDto> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
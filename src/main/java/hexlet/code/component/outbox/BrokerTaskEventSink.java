@@ -0,0 +1,56 @@
+package hexlet.code.component.outbox;
+
+import hexlet.code.config.properties.OutboxProperties;
+import hexlet.code.dto.task.TaskEventDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Stand-in for a message broker: a bounded in-memory topic that consumers take events from. A full topic
+// pushes back on the relay instead of dropping events.
+@Component
+public class BrokerTaskEventSink implements TaskEventSink {
+
+    private final OutboxProperties properties;
+    private final BlockingQueue<TaskEventDto> topic;
+
+    public BrokerTaskEventSink(OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.topic = new LinkedBlockingQueue<>(properties.getBroker().getCapacity());
+        Gauge.builder("app.outbox.broker.depth", topic, BlockingQueue::size)
+                .description("Task events waiting in the stand-in broker topic")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "broker";
+    }
+
+    @Override
+    public void publish(List<TaskEventDto> events) throws InterruptedException {
+        long timeout = properties.getBroker().getOfferTimeout().toNanos();
+        for (TaskEventDto event : events) {
+            if (!topic.offer(event, timeout, TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("Broker topic is full");
+            }
+        }
+    }
+
+    public List<TaskEventDto> poll(int maxEvents, Duration timeout) throws InterruptedException {
+        List<TaskEventDto> events = new ArrayList<>();
+        TaskEventDto first = topic.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        if (first != null) {
+            events.add(first);
+            topic.drainTo(events, maxEvents - 1);
+        }
+        return events;
+    }
+}
@@ -0,0 +1,57 @@
+package hexlet.code.component.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.config.properties.OutboxProperties;
+import hexlet.code.dto.task.TaskEventDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Appends events to a local NDJSON file. The batch is forced to disk before the relay marks it published.
+@Component
+@RequiredArgsConstructor
+public class FileTaskEventSink implements TaskEventSink {
+
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+    // Not synchronized: the relay may run on a virtual thread, which would pin its carrier during the fsync.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void publish(List<TaskEventDto> events) throws IOException {
+        var lines = new ByteArrayOutputStream();
+        for (TaskEventDto event : events) {
+            lines.write(objectMapper.writeValueAsBytes(event));
+            lines.write('\n');
+        }
+        Path path = properties.getFile().getPath().toAbsolutePath();
+        lock.lock();
+        try {
+            Files.createDirectories(path.getParent());
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
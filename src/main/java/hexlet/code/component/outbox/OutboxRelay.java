@@ -0,0 +1,145 @@
+package hexlet.code.component.outbox;
+
+import hexlet.code.config.properties.OutboxProperties;
+import hexlet.code.dto.task.TaskEventDto;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.model.OutboxPublishCursor;
+import hexlet.code.repository.OutboxEventRepository;
+import hexlet.code.repository.OutboxPublishCursorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Publishes outbox events to the configured sinks, oldest first, at least once. A batch is locked, handed
+// to every sink and marked published in one transaction; if a sink fails, the batch stays unpublished and
+// all sinks receive it again on the next poll. Each published event gets the next publishedSeq under the
+// cursor row lock, so the sequence follows commit order even though outbox ids do not.
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublishCursorRepository publishCursorRepository;
+    private final OutboxProperties properties;
+    private final TaskEventOutbox taskEventOutbox;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final List<TaskEventSink> sinks;
+    private final TaskEventStream taskEventStream;
+    private final Timer lagTimer;
+    private final Counter purgedCounter;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxPublishCursorRepository publishCursorRepository, OutboxProperties properties,
+                       TaskEventOutbox taskEventOutbox, MeterRegistry meterRegistry,
+                       PlatformTransactionManager transactionManager, List<TaskEventSink> availableSinks,
+                       TaskEventStream taskEventStream) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publishCursorRepository = publishCursorRepository;
+        this.properties = properties;
+        this.taskEventOutbox = taskEventOutbox;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskEventStream = taskEventStream;
+        Map<String, TaskEventSink> sinksByName = availableSinks.stream()
+                .collect(Collectors.toMap(TaskEventSink::name, Function.identity()));
+        this.sinks = properties.getSinks().stream()
+                .map(name -> {
+                    TaskEventSink sink = sinksByName.get(name);
+                    if (sink == null) {
+                        throw new IllegalStateException("Unknown outbox sink " + name
+                                + ", expected one of " + sinksByName.keySet());
+                    }
+                    return sink;
+                })
+                .toList();
+        this.lagTimer = Timer.builder("app.outbox.lag")
+                .description("Time from a task change to the publication of its event")
+                .register(meterRegistry);
+        this.purgedCounter = Counter.builder("app.outbox.purged")
+                .description("Published events deleted after the retention period")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:1s}")
+    public void poll() {
+        for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+            if (relayBatch() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    // Returns how many events were published; 0 when a sink failed.
+    public int relayBatch() {
+        int published;
+        try {
+            Integer count = transactionTemplate.execute(status -> publishBatch());
+            published = count != null ? count : 0;
+        } catch (RuntimeException e) {
+            log.warn("Outbox batch not published, it is retried on the next poll", e);
+            return 0;
+        }
+        if (published > 0) {
+            // The batch is committed: streams on this instance send it now rather than on their next poll.
+            taskEventStream.tail();
+        }
+        return published;
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 0 * * * *}")
+    public void purge() {
+        Instant before = Instant.now().minus(properties.getRetention());
+        Integer purged = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        if (purged != null && purged > 0) {
+            purgedCounter.increment(purged);
+            log.info("Purged {} published outbox events", purged);
+        }
+    }
+
+    private int publishBatch() {
+        OutboxPublishCursor cursor = publishCursorRepository.lock();
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(PageRequest.ofSize(properties.getBatchSize()));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        // Dirty events and the cursor are flushed on commit; a sink failure rolls the sequence back with them.
+        Instant now = Instant.now();
+        long seq = cursor.getLastSeq();
+        for (OutboxEvent event : events) {
+            event.setPublishedSeq(++seq);
+            event.setPublishedAt(now);
+        }
+        cursor.setLastSeq(seq);
+        List<TaskEventDto> batch = events.stream().map(taskEventOutbox::read).toList();
+        for (TaskEventSink sink : sinks) {
+            try {
+                sink.publish(batch);
+            } catch (Exception e) {
+                meterRegistry.counter("app.outbox.failures", "sink", sink.name()).increment();
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("Sink " + sink.name() + " rejected " + batch.size() + " events", e);
+            }
+            meterRegistry.counter("app.outbox.published", "sink", sink.name()).increment(batch.size());
+        }
+        for (OutboxEvent event : events) {
+            lagTimer.record(Duration.between(event.getCreatedAt(), now));
+        }
+        return events.size();
+    }
+}
@@ -0,0 +1,76 @@
+package hexlet.code.component.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.task.TaskEventDto;
+import hexlet.code.dto.task.TaskResponseDto;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.model.TaskEventType;
+import hexlet.code.repository.OutboxEventRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Records task changes in the outbox table. It joins the transaction of the task write, so an event is
+// committed exactly when the change is, and OutboxRelay publishes it afterwards.
+@Component
+@RequiredArgsConstructor
+public class TaskEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(TaskEventType type, Collection<TaskResponseDto> tasks) {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>(tasks.size());
+        for (TaskResponseDto task : tasks) {
+            events.add(event(type, task.getId(), serialize(task), now));
+        }
+        outboxEventRepository.saveAll(events);
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void appendDeleted(Collection<Long> taskIds) {
+        Instant now = Instant.now();
+        outboxEventRepository.saveAll(taskIds.stream()
+                .map(id -> event(TaskEventType.TASK_DELETED, id, null, now))
+                .toList());
+    }
+
+    // The event as sinks and streams receive it.
+    public TaskEventDto read(OutboxEvent event) {
+        try {
+            TaskResponseDto task = event.getPayload() != null
+                    ? objectMapper.readValue(event.getPayload(), TaskResponseDto.class)
+                    : null;
+            return new TaskEventDto(event.getId(), event.getPublishedSeq(), event.getEventType(), event.getTaskId(),
+                    event.getCreatedAt(), task);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static OutboxEvent event(TaskEventType type, Long taskId, String payload, Instant createdAt) {
+        var event = new OutboxEvent();
+        event.setEventType(type);
+        event.setTaskId(taskId);
+        event.setPayload(payload);
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+
+    private String serialize(TaskResponseDto task) {
+        try {
+            return objectMapper.writeValueAsString(task);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
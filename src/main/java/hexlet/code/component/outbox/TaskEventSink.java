@@ -0,0 +1,14 @@
+package hexlet.code.component.outbox;
+
+import hexlet.code.dto.task.TaskEventDto;
+
+import java.util.List;
+
+public interface TaskEventSink {
+
+    // The name app.outbox.sinks refers to.
+    String name();
+
+    // Throwing leaves the whole batch unpublished: it is delivered again, to every sink, on the next poll.
+    void publish(List<TaskEventDto> events) throws Exception;
+}
@@ -0,0 +1,240 @@
+package hexlet.code.component.outbox;
+
+import hexlet.code.config.properties.TaskStreamProperties;
+import hexlet.code.dto.task.TaskEventDto;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.repository.OutboxEventRepository;
+import hexlet.code.repository.OutboxPublishCursorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Fans published task events out to /api/tasks/stream connections. Every connection has a bounded queue
+// drained by its own virtual thread, so a slow client holds up neither the relay nor other clients: once
+// its queue is full it is disconnected, and it catches up from the outbox by reconnecting with Last-Event-ID.
+// Live events are tailed from the outbox in publish sequence order, after the relay commits, so everything
+// streamed can also be replayed and the SSE id is the sequence a client resumes after.
+@Slf4j
+@Component
+public class TaskEventStream {
+
+    // Sent instead of a replay that would exceed max-replay or that would skip purged events: the client
+    // reloads the board.
+    public static final String RESET_EVENT = "reset";
+
+    private final TaskStreamProperties properties;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublishCursorRepository outboxPublishCursorRepository;
+    private final TaskEventOutbox taskEventOutbox;
+    private final Semaphore slots;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter slowDisconnectCounter;
+    // Held across database reads, so a lock rather than a monitor: on Java 21 a virtual thread blocked
+    // inside synchronized pins its carrier.
+    private final ReentrantLock tailLock = new ReentrantLock();
+    // Last publish sequence offered to subscribers; -1 while nobody is subscribed. Guarded by tailLock.
+    private long tailSeq = -1;
+
+    public TaskEventStream(TaskStreamProperties properties, OutboxEventRepository outboxEventRepository,
+                           OutboxPublishCursorRepository outboxPublishCursorRepository,
+                           TaskEventOutbox taskEventOutbox, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPublishCursorRepository = outboxPublishCursorRepository;
+        this.taskEventOutbox = taskEventOutbox;
+        this.slots = new Semaphore(properties.getMaxSubscribers());
+        Gauge.builder("app.stream.subscribers", subscribers, Set::size)
+                .description("Open task event stream connections")
+                .register(meterRegistry);
+        this.slowDisconnectCounter = Counter.builder("app.stream.slow.disconnects")
+                .description("Stream connections closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    // Empty when max-subscribers connections are already open.
+    public Optional<SseEmitter> subscribe(Long lastEventId) {
+        if (!slots.tryAcquire()) {
+            return Optional.empty();
+        }
+        var subscriber = new Subscriber(new SseEmitter(properties.getTimeout().toMillis()));
+        try {
+            // Registered before the replay query, so events published in the meantime are queued rather than
+            // lost; the sender skips those the replay already sent.
+            register(subscriber);
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+        } catch (IOException e) {
+            subscriber.close();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            subscriber.close();
+            throw e;
+        }
+        subscriber.start();
+        return Optional.of(subscriber.emitter);
+    }
+
+    // Offers events published since the last call to every subscriber. OutboxRelay calls it after each batch
+    // commits; the poll picks up batches relayed by other instances.
+    @Scheduled(fixedDelayString = "${app.stream.poll-interval:1s}")
+    public void tail() {
+        tailLock.lock();
+        try {
+            if (subscribers.isEmpty()) {
+                tailSeq = -1;
+                return;
+            }
+            List<OutboxEvent> events;
+            do {
+                events = outboxEventRepository.findPublishedAfter(tailSeq,
+                        PageRequest.ofSize(properties.getMaxReplay()));
+                for (OutboxEvent event : events) {
+                    TaskEventDto dto = taskEventOutbox.read(event);
+                    subscribers.forEach(subscriber -> subscriber.offer(dto));
+                    tailSeq = event.getPublishedSeq();
+                }
+            } while (events.size() == properties.getMaxReplay());
+        } catch (DataAccessException e) {
+            log.warn("Task stream not updated, it is retried on the next poll", e);
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        subscribers.forEach(subscriber -> {
+            subscriber.emitter.complete();
+            subscriber.close();
+        });
+    }
+
+    // The first subscriber starts the tail at the current end of the outbox; anything published before that
+    // is reached through replay.
+    private void register(Subscriber subscriber) {
+        tailLock.lock();
+        try {
+            if (tailSeq < 0) {
+                tailSeq = outboxPublishCursorRepository.findLastSeq();
+            }
+            subscribers.add(subscriber);
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    // Runs on the request thread: sends made before the handler returns are written once the response starts.
+    // Publish sequences have no gaps, so a replay that does not continue right after lastEventId means the
+    // events in between were purged, like a token older than the retention on /api/tasks/changes.
+    private void replay(Subscriber subscriber, long lastEventId) throws IOException {
+        subscriber.sentSeq = lastEventId;
+        // Read before the events: everything up to it is committed, so a short replay is a purge, not a race.
+        long lastSeq = outboxPublishCursorRepository.findLastSeq();
+        List<OutboxEvent> events = outboxEventRepository.findPublishedAfter(lastEventId,
+                PageRequest.ofSize(properties.getMaxReplay() + 1));
+        boolean purged = events.isEmpty()
+                ? lastEventId < lastSeq
+                : events.get(0).getPublishedSeq() != lastEventId + 1;
+        if (purged || events.size() > properties.getMaxReplay()) {
+            subscriber.emitter.send(SseEmitter.event().name(RESET_EVENT).data(""));
+            return;
+        }
+        for (OutboxEvent event : events) {
+            subscriber.send(taskEventOutbox.read(event));
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<TaskEventDto> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        // Highest sequence sent; written by the request thread during replay, then only by the sender.
+        private long sentSeq;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread sender;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            emitter.onCompletion(this::close);
+            emitter.onError(error -> close());
+            emitter.onTimeout(() -> {
+                emitter.complete();
+                close();
+            });
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("task-stream-sender").start(this::run);
+        }
+
+        void offer(TaskEventDto event) {
+            if (!queue.offer(event)) {
+                slowDisconnectCounter.increment();
+                log.debug("Disconnect a task stream subscriber that is {} events behind", queue.size());
+                emitter.complete();
+                close();
+            }
+        }
+
+        void send(TaskEventDto event) throws IOException {
+            sentSeq = event.getSequence();
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.getSequence()))
+                    .name(event.getType().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                slots.release();
+                Thread thread = sender;
+                if (thread != null && thread != Thread.currentThread()) {
+                    thread.interrupt();
+                }
+            }
+        }
+
+        private void run() {
+            long heartbeat = properties.getHeartbeat().toNanos();
+            try {
+                while (!closed.get()) {
+                    TaskEventDto event = queue.poll(heartbeat, TimeUnit.NANOSECONDS);
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (event.getSequence() > sentSeq) {
+                        send(event);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Task stream subscriber went away: {}", e.getMessage());
+            } finally {
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package hexlet.code.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.config.properties.AppCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+@RequiredArgsConstructor
+public class CacheConfig {
+
+    public static final String TASK_COUNTS_CACHE = "task-counts";
+
+    private final AppCacheProperties cacheProperties;
+
+    // Puts and evictions inside a transaction run after it commits. Otherwise an @CacheEvict on a
+    // @Transactional write clears before the commit, and a concurrent read caches the old value again.
+    // CaffeineCacheManager has no transaction-aware switch, so it is wrapped in the proxy.
+    @Bean
+    public CacheManager cacheManager() {
+        var cacheManager = new CaffeineCacheManager();
+        cacheProperties.getSpecs().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, Caffeine.from(spec).build()));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -6,12 +6,16 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import hexlet.code.config.properties.PasswordHashingProperties;
 import hexlet.code.config.properties.RsaKeyProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
@@ -19,15 +23,94 @@ import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Configuration
 @RequiredArgsConstructor
 public class EncryptionConfig {
 
+    private static final int SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
     private final RsaKeyProperties rsaKeys;
+    private final PasswordHashingProperties passwordHashingProperties;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        Map<String, PasswordEncoder> encoders = passwordEncoders(passwordHashingProperties);
+        var passwordEncoder = new DelegatingPasswordEncoder(passwordHashingProperties.getAlgorithm(), encoders);
+        // Digests stored before the {id} prefix was introduced are plain bcrypt.
+        passwordEncoder.setDefaultPasswordEncoderForMatches(encoders.get(PasswordHashingProperties.BCRYPT));
+        return passwordEncoder;
+    }
+
+    public static Map<String, PasswordEncoder> passwordEncoders(PasswordHashingProperties properties) {
+        return Map.of(
+                PasswordHashingProperties.BCRYPT,
+                new BCryptPasswordEncoder(properties.getBcryptStrength()),
+                PasswordHashingProperties.ARGON2,
+                new Argon2PasswordEncoder(SALT_LENGTH, ARGON2_HASH_LENGTH, properties.getArgon2Parallelism(),
+                        properties.getArgon2MemoryKib(), properties.getArgon2Iterations()),
+                PasswordHashingProperties.PBKDF2,
+                new IterationCountingPbkdf2PasswordEncoder(properties.getPbkdf2Iterations()));
+    }
+
+    // Bcrypt and argon2 digests carry their cost, so their encoders can tell when a digest needs upgrading.
+    // A pbkdf2 digest does not, so this encoder stores "<iterations>$<digest>" and verifies each digest with
+    // the count it was made with. Digests stored without a count were made before, with the configured count.
+    static final class IterationCountingPbkdf2PasswordEncoder implements PasswordEncoder {
+
+        private static final String SEPARATOR = "$";
+
+        private final int iterations;
+        private final Map<Integer, PasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+        IterationCountingPbkdf2PasswordEncoder(int iterations) {
+            this.iterations = iterations;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return iterations + SEPARATOR + encoder(iterations).encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (encodedPassword == null) {
+                return false;
+            }
+            int separator = encodedPassword.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return encoder(iterations).matches(rawPassword, encodedPassword);
+            }
+            Integer count = parseIterations(encodedPassword.substring(0, separator));
+            return count != null && encoder(count).matches(rawPassword, encodedPassword.substring(separator + 1));
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            int separator = encodedPassword == null ? -1 : encodedPassword.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return true;
+            }
+            Integer count = parseIterations(encodedPassword.substring(0, separator));
+            return count == null || count < iterations;
+        }
+
+        private PasswordEncoder encoder(int count) {
+            return encoders.computeIfAbsent(count, c -> new Pbkdf2PasswordEncoder("", SALT_LENGTH, c,
+                    Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+        }
+
+        private static Integer parseIterations(String value) {
+            try {
+                int count = Integer.parseInt(value);
+                return count > 0 ? count : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
     }
 
     @Bean
@@ -0,0 +1,61 @@
+package hexlet.code.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import hexlet.code.config.properties.AppCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Second-level cache regions for the small reference tables, backed by Caffeine through JCache.
+// Each region is created here from app.cache.regions, so none falls back to an unbounded default.
+@Configuration
+@RequiredArgsConstructor
+public class HibernateCacheConfig {
+
+    public static final String TASK_STATUSES_REGION = "task-statuses";
+    public static final String LABELS_REGION = "labels";
+    public static final String ROLES_REGION = "roles";
+    public static final String TASK_LABELS_REGION = "task-labels";
+    public static final String USER_ROLES_REGION = "user-roles";
+    public static final String TASK_STATUS_BY_SLUG_QUERY_REGION = "task-status-by-slug";
+    public static final String ROLE_BY_AUTHORITY_QUERY_REGION = "role-by-authority";
+    // Hibernate's table modification timestamps; must never expire before the query results that rely on them.
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private final AppCacheProperties cacheProperties;
+
+    // A manager of its own per application context: contexts sharing a JVM (tests) must not share regions.
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheProperties.getRegions().forEach((name, region) -> {
+            var configuration = new CaffeineConfiguration<Object, Object>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            if (region.getExpireAfterWrite() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        });
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package hexlet.code.config;
 
+import hexlet.code.controller.TaskController;
 import hexlet.code.service.impl.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -18,6 +19,8 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
 import org.springframework.security.web.SecurityFilterChain;
 
 @EnableMethodSecurity
@@ -41,10 +44,25 @@ public class SecurityConfig {
         var provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(customUserDetailsService);
         provider.setPasswordEncoder(passwordEncoder);
+        // Re-hashes digests made with an outdated algorithm or cost after a successful login.
+        provider.setUserDetailsPasswordService(customUserDetailsService);
         return provider;
     }
 
-    // Default security filter chain for non-local environments.
+    // Tokens are read from the Authorization header only, except on the event stream, which browsers open
+    // with EventSource and cannot add headers to. Query tokens end up in access logs, so nowhere else.
+    @Bean
+    public BearerTokenResolver bearerTokenResolver() {
+        var headerResolver = new DefaultBearerTokenResolver();
+        var queryResolver = new DefaultBearerTokenResolver();
+        queryResolver.setAllowUriQueryParameter(true);
+        return request -> TaskController.STREAM_PATH.equals(request.getRequestURI())
+                ? queryResolver.resolve(request)
+                : headerResolver.resolve(request);
+    }
+
+    // Default security filter chain for non-local environments. Only health is public on the actuator: the
+    // scrape output names endpoints, caches and pool sizes, so Prometheus authenticates like any other client.
     @Bean
     @Profile("!local")
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -58,6 +76,7 @@ public class SecurityConfig {
                         .requestMatchers("/v3/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
                         .requestMatchers("/swagger-ui/**").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .oauth2ResourceServer(rs -> rs.jwt(jwt -> jwt.decoder(jwtDecoder)))
@@ -81,6 +100,7 @@ public class SecurityConfig {
                         .requestMatchers("/v3/**").permitAll()
                         .requestMatchers("/swagger-ui.html").permitAll()
                         .requestMatchers("/swagger-ui/**").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .oauth2ResourceServer(rs -> rs
@@ -0,0 +1,24 @@
+package hexlet.code.config;
+
+import hexlet.code.component.RequestConcurrencyLimiter;
+import hexlet.code.component.SqlBudgetInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final SqlBudgetInterceptor sqlBudgetInterceptor;
+    private final ObjectProvider<RequestConcurrencyLimiter> requestConcurrencyLimiter;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Registered first: a rejected request does no further work.
+        requestConcurrencyLimiter.ifAvailable(limiter -> registry.addInterceptor(limiter).addPathPatterns("/api/**"));
+        registry.addInterceptor(sqlBudgetInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,28 @@
+package hexlet.code.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+@Setter
+@Getter
+public class AppCacheProperties {
+    // Caffeine spec per cache name, e.g. "maximumSize=1000,expireAfterWrite=10m,recordStats".
+    private Map<String, String> specs = new HashMap<>();
+    // Hibernate second-level cache regions by name (see HibernateCacheConfig).
+    private Map<String, Region> regions = new HashMap<>();
+
+    @Setter
+    @Getter
+    public static class Region {
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite;
+    }
+}
@@ -0,0 +1,21 @@
+package hexlet.code.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.security.login")
+@Setter
+@Getter
+public class LoginThrottleProperties {
+    // Password checks allowed to run at once; more would only compete for the same cores.
+    private int maxConcurrent = Runtime.getRuntime().availableProcessors();
+    // Logins allowed to wait for a free slot; anything beyond is rejected immediately.
+    private int maxQueue = Runtime.getRuntime().availableProcessors() * 2;
+    private Duration maxWait = Duration.ofSeconds(2);
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,44 @@
+package hexlet.code.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+@Setter
+@Getter
+public class OutboxProperties {
+    // Events published per relay transaction.
+    private int batchSize = 100;
+    // A backlog is drained in consecutive batches, up to this many per poll.
+    private int maxBatchesPerPoll = 10;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    // Names of the TaskEventSink beans every event is delivered to, in order.
+    private List<String> sinks = new ArrayList<>(List.of("application"));
+    // Published events are kept this long, so streams can replay them, then purged.
+    private Duration retention = Duration.ofDays(7);
+    private String purgeCron = "0 0 * * * *";
+    private File file = new File();
+    private Broker broker = new Broker();
+
+    @Setter
+    @Getter
+    public static class File {
+        private Path path = Path.of("build/outbox/task-events.ndjson");
+    }
+
+    @Setter
+    @Getter
+    public static class Broker {
+        // Events held for consumers; a full topic rejects the batch, which is retried on the next poll.
+        private int capacity = 10_000;
+        private Duration offerTimeout = Duration.ofMillis(100);
+    }
+}
@@ -0,0 +1,24 @@
+package hexlet.code.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.security.password")
+@Setter
+@Getter
+public class PasswordHashingProperties {
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    // Algorithm used for new digests; digests of the other algorithms are still verified and upgraded on login.
+    private String algorithm = BCRYPT;
+    private int bcryptStrength = 10;
+    private int argon2MemoryKib = 16384;
+    private int argon2Iterations = 2;
+    private int argon2Parallelism = 1;
+    private int pbkdf2Iterations = 310000;
+}
@@ -0,0 +1,21 @@
+package hexlet.code.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.web.concurrency")
+@Setter
+@Getter
+public class RequestConcurrencyProperties {
+    // API requests handled at once; unset leaves them bounded by the servlet thread pool alone.
+    private Integer maxConcurrent;
+    // Kept below the Hikari connection timeout, so an overloaded instance answers 429 before the pool
+    // starts failing requests with 500.
+    private Duration maxWait = Duration.ofSeconds(1);
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,23 @@
+package hexlet.code.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.sql.budget")
+@Setter
+@Getter
+public class SqlBudgetProperties {
+    // Statements per request for endpoints without their own @SqlBudget.
+    private int maxStatements = 25;
+    // Total database time per request.
+    private Duration maxTime = Duration.ofMillis(500);
+    // Single statements at least this slow are logged with their SQL.
+    private Duration slowStatement = Duration.ofMillis(200);
+    // Test mode: statement budget violations are kept for the test run to fail on, not only logged.
+    private boolean failOnExceed;
+}
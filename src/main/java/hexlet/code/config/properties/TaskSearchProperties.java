@@ -0,0 +1,20 @@
+package hexlet.code.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.search")
+@Setter
+@Getter
+public class TaskSearchProperties {
+    public static final String DATABASE = "database";
+    public static final String MEMORY = "memory";
+
+    // "database" relies on the pg_trgm index, "memory" keeps an in-process token index (H2).
+    private String titleIndex = DATABASE;
+    // Above this many in-memory matches the id list gets too long and plain LIKE is used instead.
+    private int maxCandidates = 10000;
+}
@@ -0,0 +1,29 @@
+package hexlet.code.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.stream")
+@Setter
+@Getter
+public class TaskStreamProperties {
+    // Open /api/tasks/stream connections; further clients get 429 until one closes.
+    private int maxSubscribers = 1000;
+    private Duration retryAfter = Duration.ofSeconds(5);
+    // Events buffered per connection. A client that falls this far behind is disconnected and catches up
+    // by reconnecting with Last-Event-ID.
+    private int queueCapacity = 256;
+    // Events replayed after Last-Event-ID; a client further behind is told to reload the board.
+    private int maxReplay = 1000;
+    // How often the outbox is checked for events published by other instances; this instance's own relay
+    // hands its batches over straight after commit.
+    private Duration pollInterval = Duration.ofSeconds(1);
+    // Comment lines keep idle connections open through proxies.
+    private Duration heartbeat = Duration.ofSeconds(15);
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,21 @@
+package hexlet.code.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.sync")
+@Setter
+@Getter
+public class TaskSyncProperties {
+    // Deletions are reported this long; older change tokens get 410 and the client reloads all tasks.
+    private Duration tombstoneRetention = Duration.ofDays(30);
+    // Longest expected write transaction. Change tokens trail the clock by this much, so a row stamped
+    // before its transaction committed is still reported by the next request.
+    private Duration commitLag = Duration.ofSeconds(5);
+    private String purgeCron = "0 30 * * * *";
+}
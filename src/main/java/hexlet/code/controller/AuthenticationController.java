@@ -1,6 +1,8 @@
 package hexlet.code.controller;
 
+import hexlet.code.component.CredentialVerificationLimiter;
 import hexlet.code.dto.AuthRequest;
+import hexlet.code.model.User;
 import hexlet.code.util.JWTUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,13 +22,16 @@ public class AuthenticationController {
 
     private final JWTUtils jwtUtils;
     private final AuthenticationManager authenticationManager;
+    private final CredentialVerificationLimiter credentialVerificationLimiter;
 
     @PostMapping("/login")
     public String create(@RequestBody AuthRequest authRequest) {
         var authToken = new UsernamePasswordAuthenticationToken(authRequest.getUsername(),
                 authRequest.getPassword());
-        var authentication = authenticationManager.authenticate(authToken);
+        var authentication = credentialVerificationLimiter.verify(
+                () -> authenticationManager.authenticate(authToken));
         Collection<? extends GrantedAuthority> grantedAuthorities = authentication.getAuthorities();
-        return jwtUtils.generateToken(authRequest.getUsername(), grantedAuthorities);
+        Long userId = authentication.getPrincipal() instanceof User user ? user.getId() : null;
+        return jwtUtils.generateToken(userId, authRequest.getUsername(), grantedAuthorities);
     }
 }
@@ -1,5 +1,7 @@
 package hexlet.code.controller;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.SqlBudget;
 import hexlet.code.dto.label.LabelCreateDto;
 import hexlet.code.dto.label.LabelResponseDto;
 import hexlet.code.dto.label.LabelUpdateDto;
@@ -10,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,16 +23,28 @@ import java.util.List;
 public class LabelController {
 
     private final LabelService labelService;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping("/{id}")
     public LabelResponseDto getLabel(@PathVariable Long id) {
         return labelService.getLabelById(id);
     }
 
+    // The collection version, then the list unless it matches If-None-Match.
     @GetMapping
-    public ResponseEntity<List<LabelResponseDto>> getAllLabels() {
+    @SqlBudget(statements = 2)
+    public ResponseEntity<List<LabelResponseDto>> getAllLabels(WebRequest webRequest) {
+        String etag = collectionVersions.etag(CollectionVersions.LABELS);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CollectionVersions.CACHE_CONTROL)
+                    .build();
+        }
         List<LabelResponseDto> responseDtoList = labelService.getAllLables();
         return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CollectionVersions.CACHE_CONTROL)
                 .header("X-Total-Count", String.valueOf(responseDtoList.size()))
                 .body(responseDtoList);
     }
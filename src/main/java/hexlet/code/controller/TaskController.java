@@ -1,18 +1,41 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import hexlet.code.component.SqlBudget;
+import hexlet.code.component.outbox.TaskEventStream;
+import hexlet.code.config.properties.TaskStreamProperties;
+import hexlet.code.dto.task.TaskBulkResultDto;
+import hexlet.code.dto.task.TaskBulkUpdateDto;
+import hexlet.code.dto.task.TaskChangesDto;
 import hexlet.code.dto.task.TaskCreateDto;
 import hexlet.code.dto.task.TaskFiltrationDto;
+import hexlet.code.dto.task.TaskPageDto;
+import hexlet.code.dto.task.TaskPageRequestDto;
 import hexlet.code.dto.task.TaskResponseDto;
 import hexlet.code.dto.task.TaskUpdateDto;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.PreconditionFailedException;
 import hexlet.code.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Slf4j
@@ -21,31 +44,124 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskController {
 
+    public static final String STREAM_PATH = "/api/tasks/stream";
+
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final String EXPORT_FORMAT_NDJSON = "ndjson";
+    private static final String EXPORT_FORMAT_JSON = "json";
+    // A full batch of 1000 items: reference lookups plus JDBC batches of 50 for rows, join rows, outbox events,
+    // tombstones and ids.
+    private static final int BULK_SQL_BUDGET = 150;
+
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TaskEventStream taskEventStream;
+    private final TaskStreamProperties taskStreamProperties;
 
     @GetMapping("/{id}")
-    public TaskResponseDto getTask(@PathVariable Long id) {
-        return taskService.getTaskById(id);
+    @SqlBudget(statements = 5)
+    public ResponseEntity<TaskResponseDto> getTask(@PathVariable Long id) {
+        return withETag(ResponseEntity.ok(), taskService.getTaskById(id));
     }
 
+    // Tasks, their label ids and, for a page, the count: independent of how many rows are returned.
     @GetMapping
-    public ResponseEntity<List<TaskResponseDto>> getAllTasks(@ParameterObject TaskFiltrationDto filtration) {
-        List<TaskResponseDto> responseDtoList = taskService.getAllTasks(filtration);
+    @SqlBudget(statements = 4)
+    public ResponseEntity<List<TaskResponseDto>> getAllTasks(
+            @ParameterObject TaskFiltrationDto filtration,
+            @Valid @ParameterObject TaskPageRequestDto pageRequest) {
+        if (!pageRequest.isPaged()) {
+            List<TaskResponseDto> responseDtoList = taskService.getAllTasks(filtration);
+            return ResponseEntity.ok()
+                    .header("X-Total-Count", String.valueOf(responseDtoList.size()))
+                    .body(responseDtoList);
+        }
+        TaskPageDto page = taskService.getTasksPage(filtration, pageRequest);
+        var response = ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(taskService.countTasks(filtration)));
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(page.getContent());
+    }
+
+    // Ids of the tasks created, updated and deleted since the token of a previous call. The first call, without
+    // a token, only returns one to start from.
+    @GetMapping("/changes")
+    @SqlBudget(statements = 2)
+    public TaskChangesDto getChanges(@RequestParam(required = false) String since) {
+        return taskService.getChanges(since);
+    }
+
+    // Server-sent task events. EventSource cannot set headers, so this endpoint also takes the token as
+    // ?access_token= (see SecurityConfig); on reconnect it resumes after the Last-Event-ID the browser sends.
+    // Statements: the stream's starting sequence, and for a replay the last sequence and the events.
+    @GetMapping("/stream")
+    @SqlBudget(statements = 3)
+    public ResponseEntity<SseEmitter> streamTasks(
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) Long lastEventId) {
+        return taskEventStream.subscribe(lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER,
+                                String.valueOf(taskStreamProperties.getRetryAfter().toSeconds()))
+                        .build());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @ParameterObject TaskFiltrationDto filtration,
+            @RequestParam(defaultValue = EXPORT_FORMAT_NDJSON) String format) {
+        if (!EXPORT_FORMAT_NDJSON.equals(format) && !EXPORT_FORMAT_JSON.equals(format)) {
+            throw new BadRequestException("Unsupported export format " + format);
+        }
+        boolean jsonArray = EXPORT_FORMAT_JSON.equals(format);
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(responseDtoList.size()))
-                .body(responseDtoList);
+                .contentType(jsonArray ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON)
+                .body(out -> writeExport(out, filtration, jsonArray));
+    }
+
+    private void writeExport(OutputStream out, TaskFiltrationDto filtration, boolean jsonArray) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TaskResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (jsonArray) {
+                generator.writeStartArray();
+            } else {
+                generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            }
+            taskService.exportTasks(filtration, batch -> {
+                try {
+                    for (TaskResponseDto dto : batch) {
+                        writer.writeValue(generator, dto);
+                        if (!jsonArray) {
+                            generator.writeRaw('\n');
+                        }
+                    }
+                    generator.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (jsonArray) {
+                generator.writeEndArray();
+            }
+        }
     }
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public TaskResponseDto createTask(@Valid @RequestBody TaskCreateDto dto) {
-        return taskService.createTask(dto);
+    public ResponseEntity<TaskResponseDto> createTask(@Valid @RequestBody TaskCreateDto dto) {
+        return withETag(ResponseEntity.status(HttpStatus.CREATED), taskService.createTask(dto));
     }
 
+    // Without If-Match the update is unconditional, as before.
     @PutMapping("/{id}")
-    public TaskResponseDto updateTask(@PathVariable Long id,
-                                      @Valid @RequestBody TaskUpdateDto dto) {
-        return taskService.updateTask(id, dto);
+    public ResponseEntity<TaskResponseDto> updateTask(@PathVariable Long id,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                      String ifMatch,
+                                                      @Valid @RequestBody TaskUpdateDto dto) {
+        return withETag(ResponseEntity.ok(), taskService.updateTask(id, dto, expectedVersion(ifMatch)));
     }
 
     @DeleteMapping("/{id}")
@@ -53,4 +169,42 @@ public class TaskController {
     public void deleteTask(@PathVariable Long id) {
         taskService.deleteTask(id);
     }
+
+    private static ResponseEntity<TaskResponseDto> withETag(ResponseEntity.BodyBuilder response,
+                                                            TaskResponseDto task) {
+        return response.eTag(String.valueOf(task.getVersion())).body(task);
+    }
+
+    // Only a strong ETag from a previous response can match; "*" just requires the task to exist.
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        List<ETag> etags = ETag.parse(ifMatch);
+        if (etags.size() == 1 && etags.get(0).isWildcard()) {
+            return null;
+        }
+        if (etags.size() != 1 || etags.get(0).weak() || !etags.get(0).tag().matches("\\d{1,18}")) {
+            throw new PreconditionFailedException("If-Match does not match the current version of the task");
+        }
+        return Long.valueOf(etags.get(0).tag());
+    }
+
+    @PostMapping("/bulk")
+    @SqlBudget(statements = BULK_SQL_BUDGET)
+    public List<TaskBulkResultDto> createTasks(@RequestBody List<TaskCreateDto> dtos) {
+        return taskService.createTasks(dtos);
+    }
+
+    @PutMapping("/bulk")
+    @SqlBudget(statements = BULK_SQL_BUDGET)
+    public List<TaskBulkResultDto> updateTasks(@RequestBody List<TaskBulkUpdateDto> dtos) {
+        return taskService.updateTasks(dtos);
+    }
+
+    @DeleteMapping("/bulk")
+    @SqlBudget(statements = BULK_SQL_BUDGET)
+    public List<TaskBulkResultDto> deleteTasks(@RequestBody List<Long> ids) {
+        return taskService.deleteTasks(ids);
+    }
 }
@@ -1,5 +1,7 @@
 package hexlet.code.controller;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.SqlBudget;
 import hexlet.code.dto.task_status.TaskStatusCreateDto;
 import hexlet.code.dto.task_status.TaskStatusResponseDto;
 import hexlet.code.dto.task_status.TaskStatusUpdateDto;
@@ -10,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,16 +23,28 @@ import java.util.List;
 public class TaskStatusController {
 
     private final TaskStatusService taskStatusService;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping("/{id}")
     public TaskStatusResponseDto getTaskStatus(@PathVariable Long id) {
         return taskStatusService.getTaskStatusById(id);
     }
 
+    // The collection version, then the list unless it matches If-None-Match.
     @GetMapping
-    public ResponseEntity<List<TaskStatusResponseDto>> getAllTaskStatuses() {
+    @SqlBudget(statements = 2)
+    public ResponseEntity<List<TaskStatusResponseDto>> getAllTaskStatuses(WebRequest webRequest) {
+        String etag = collectionVersions.etag(CollectionVersions.TASK_STATUSES);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CollectionVersions.CACHE_CONTROL)
+                    .build();
+        }
         List<TaskStatusResponseDto> responseDtoList = taskStatusService.getAllTaskStatuses();
         return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CollectionVersions.CACHE_CONTROL)
                 .header("X-Total-Count", String.valueOf(responseDtoList.size()))
                 .body(responseDtoList);
     }
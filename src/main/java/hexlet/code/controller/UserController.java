@@ -1,5 +1,7 @@
 package hexlet.code.controller;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.SqlBudget;
 import hexlet.code.dto.user.UserCreateDto;
 import hexlet.code.dto.user.UserResponseDto;
 import hexlet.code.dto.user.UserUpdateDto;
@@ -12,6 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +25,7 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final CollectionVersions collectionVersions;
     private final UserUtils userUtils;
 
     @GetMapping("/{id}")
@@ -29,10 +33,21 @@ public class UserController {
         return userService.getUserById(id);
     }
 
+    // The collection version, then the list unless it matches If-None-Match.
     @GetMapping
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
+    @SqlBudget(statements = 2)
+    public ResponseEntity<List<UserResponseDto>> getAllUsers(WebRequest webRequest) {
+        String etag = collectionVersions.etag(CollectionVersions.USERS);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CollectionVersions.CACHE_CONTROL)
+                    .build();
+        }
         List<UserResponseDto> responseDtoList = userService.getAllUsers();
         return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CollectionVersions.CACHE_CONTROL)
                 .header("X-Total-Count", String.valueOf(responseDtoList.size()))
                 .body(responseDtoList);
     }
@@ -0,0 +1,34 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResultDto {
+    // Position of the item in the request array
+    private int position;
+    private Long id;
+    private int status;
+    private String error;
+    private TaskResponseDto task;
+    // The ETag a single-task GET would return, for an If-Match on the next update
+    private Long version;
+
+    public static TaskBulkResultDto succeeded(int position, HttpStatus status, TaskResponseDto task) {
+        return new TaskBulkResultDto(position, task.getId(), status.value(), null, task, task.getVersion());
+    }
+
+    public static TaskBulkResultDto deleted(int position, Long id) {
+        return new TaskBulkResultDto(position, id, HttpStatus.NO_CONTENT.value(), null, null, null);
+    }
+
+    public static TaskBulkResultDto failed(int position, Long id, HttpStatus status, String error) {
+        return new TaskBulkResultDto(position, id, status.value(), error, null, null);
+    }
+}
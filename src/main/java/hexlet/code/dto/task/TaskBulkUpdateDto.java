@@ -0,0 +1,13 @@
+package hexlet.code.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskBulkUpdateDto extends TaskUpdateDto {
+
+    @NotNull
+    private Long id;
+}
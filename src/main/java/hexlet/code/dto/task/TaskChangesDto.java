@@ -0,0 +1,21 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDto {
+    // Tasks not modified since they were created; a task created and then edited is reported as updated
+    private List<Long> created;
+    private List<Long> updated;
+    private List<Long> deleted;
+    // Token for the next call; ids changed just before it may be reported again
+    private String next;
+}
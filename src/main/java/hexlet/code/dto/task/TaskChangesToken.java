@@ -0,0 +1,26 @@
+package hexlet.code.dto.task;
+
+import hexlet.code.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque position in the task change history: tasks modified or deleted at or after the watermark.
+public record TaskChangesToken(Instant watermark) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(watermark.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskChangesToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new TaskChangesToken(Instant.parse(raw));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid changes token " + token);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package hexlet.code.dto.task;
+
+import hexlet.code.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque keyset position: the id of the last returned task and, for createdAt ordering, its creation date.
+public record TaskCursor(Long id, LocalDate createdAt) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = createdAt == null ? String.valueOf(id) : id + SEPARATOR + createdAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            Long id = Long.valueOf(parts[0]);
+            LocalDate createdAt = parts.length > 1 ? LocalDate.parse(parts[1]) : null;
+            return new TaskCursor(id, createdAt);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor " + cursor);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package hexlet.code.dto.task;
+
+import hexlet.code.model.TaskEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDto {
+    // Outbox id; at-least-once delivery means consumers deduplicate on it
+    private Long id;
+    // Publication order; the SSE event id and the Last-Event-ID a stream resumes after
+    private Long sequence;
+    private TaskEventType type;
+    private Long taskId;
+    private Instant occurredAt;
+    // Null for TASK_DELETED
+    private TaskResponseDto task;
+}
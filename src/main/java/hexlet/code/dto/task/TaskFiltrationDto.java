@@ -1,10 +1,12 @@
 package hexlet.code.dto.task;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
+@EqualsAndHashCode
 public class TaskFiltrationDto {
     private String titleCont;
     private Long assigneeId;
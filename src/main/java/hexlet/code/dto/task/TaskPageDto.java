@@ -0,0 +1,15 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TaskPageDto {
+    private List<TaskResponseDto> content;
+    private String nextCursor;
+}
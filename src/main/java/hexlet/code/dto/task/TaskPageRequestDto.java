@@ -0,0 +1,33 @@
+package hexlet.code.dto.task;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskPageRequestDto {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+    public static final String ORDER_BY_ID = "id";
+    public static final String ORDER_BY_CREATED_AT = "createdAt";
+
+    private String after;
+
+    @Min(1)
+    @Max(MAX_LIMIT)
+    private Integer limit;
+
+    @Pattern(regexp = ORDER_BY_ID + "|" + ORDER_BY_CREATED_AT)
+    private String orderBy = ORDER_BY_ID;
+
+    public boolean isPaged() {
+        return limit != null || after != null;
+    }
+
+    public boolean isOrderedByCreatedAt() {
+        return ORDER_BY_CREATED_AT.equals(orderBy);
+    }
+}
@@ -1,5 +1,6 @@
 package hexlet.code.dto.task;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,4 +22,7 @@ public class TaskResponseDto {
     private String content;
     private String status;
     private Set<Long> taskLabelIds;
+    // Sent as the ETag of a single task; listings leave it unset.
+    @JsonIgnore
+    private Long version;
 }
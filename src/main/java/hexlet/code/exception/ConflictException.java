@@ -0,0 +1,15 @@
+package hexlet.code.exception;
+
+public class ConflictException extends RuntimeException {
+
+    public static final String LABEL_DELETE_ERROR_MESSAGE = "The label cannot be deleted "
+            + "because it's applied to a task";
+    public static final String TASK_STATUS_DELETE_ERROR_MESSAGE = "The task_status cannot be deleted "
+            + "because it's applied to a task";
+    public static final String USER_DELETE_ERROR_MESSAGE = "It's impossible to delete a user "
+            + "because he's assigned to a task";
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
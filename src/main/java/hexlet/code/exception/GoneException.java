@@ -0,0 +1,8 @@
+package hexlet.code.exception;
+
+public class GoneException extends RuntimeException {
+
+    public GoneException(String message) {
+        super(message);
+    }
+}
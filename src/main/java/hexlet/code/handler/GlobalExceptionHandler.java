@@ -4,12 +4,20 @@ import hexlet.code.dto.error.ErrorMessageResponse;
 import hexlet.code.dto.error.ValidationError;
 import hexlet.code.dto.error.Violation;
 import hexlet.code.exception.AlreadyExistException;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.ConflictException;
+import hexlet.code.exception.GoneException;
 import hexlet.code.exception.NotFoundException;
+import hexlet.code.exception.PreconditionFailedException;
+import hexlet.code.exception.TooManyRequestsException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.validation.FieldError;
@@ -22,13 +30,6 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    public static final String LABEL_DELETE_ERROR_MESSAGE = "The label cannot be deleted "
-            + "because it's applied to a task";
-    public static final String TASK_STATUS_DELETE_ERROR_MESSAGE = "The task_status cannot be deleted "
-            + "because it's applied to a task";
-    public static final String USER_DELETE_ERROR_MESSAGE = "It's impossible to delete a user "
-            + "because he's assigned to a task";
-
     @ExceptionHandler(value = Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorMessageResponse handleException(Exception e) {
@@ -45,6 +46,13 @@ public class GlobalExceptionHandler {
         return ErrorMessageResponse.builder().error(errorMessage).build();
     }
 
+    @ExceptionHandler(value = TooManyRequestsException.class)
+    public ResponseEntity<ErrorMessageResponse> handleTooManyRequestsException(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(ErrorMessageResponse.builder().error(e.getMessage()).build());
+    }
+
     @ExceptionHandler(value = AuthorizationDeniedException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ErrorMessageResponse handleException(AuthorizationDeniedException e) {
@@ -84,6 +92,13 @@ public class GlobalExceptionHandler {
         return ErrorMessageResponse.builder().error(errorMessage).build();
     }
 
+    @ExceptionHandler(value = BadRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorMessageResponse handleBadRequestException(BadRequestException e) {
+        String errorMessage = e.getMessage() != null ? e.getMessage() : "BadRequestException!";
+        return ErrorMessageResponse.builder().error(errorMessage).build();
+    }
+
     @ExceptionHandler(value = AlreadyExistException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public ErrorMessageResponse handleAlreadyExistException(AlreadyExistException e) {
@@ -91,18 +106,49 @@ public class GlobalExceptionHandler {
         return ErrorMessageResponse.builder().error(errorMessage).build();
     }
 
+    @ExceptionHandler(value = ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorMessageResponse handleConflictException(ConflictException e) {
+        String errorMessage = e.getMessage() != null ? e.getMessage() : "ConflictException!";
+        return ErrorMessageResponse.builder().error(errorMessage).build();
+    }
+
+    @ExceptionHandler(value = GoneException.class)
+    @ResponseStatus(HttpStatus.GONE)
+    public ErrorMessageResponse handleGoneException(GoneException e) {
+        String errorMessage = e.getMessage() != null ? e.getMessage() : "GoneException!";
+        return ErrorMessageResponse.builder().error(errorMessage).build();
+    }
+
+    @ExceptionHandler(value = PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ErrorMessageResponse handlePreconditionFailedException(PreconditionFailedException e) {
+        String errorMessage = e.getMessage() != null ? e.getMessage() : "PreconditionFailedException!";
+        return ErrorMessageResponse.builder().error(errorMessage).build();
+    }
+
+    // A concurrent write committed between reading an entity and updating it.
+    @ExceptionHandler(value = OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorMessageResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.debug("Handle OptimisticLockingFailureException", e);
+        return ErrorMessageResponse.builder().error("The resource was modified concurrently, reload it and retry")
+                .build();
+    }
+
+    // Fallback for a task that references the row being deleted after the service's existence check.
     @ExceptionHandler(value = DataIntegrityViolationException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public ErrorMessageResponse handleDataIntegrityViolationException(DataIntegrityViolationException e) {
         String errorMessage = e.getMessage() != null ? e.getMessage() : "DataIntegrityViolationException!";
         if (errorMessage.contains("PUBLIC.TASKS FOREIGN KEY(TASK_STATUS_ID) REFERENCES PUBLIC.TASK_STATUSES(ID)")) {
-            errorMessage = TASK_STATUS_DELETE_ERROR_MESSAGE;
+            errorMessage = ConflictException.TASK_STATUS_DELETE_ERROR_MESSAGE;
         }
         if (errorMessage.contains("PUBLIC.TASK_LABELS FOREIGN KEY(LABEL_ID) REFERENCES PUBLIC.LABELS(ID)")) {
-            errorMessage = LABEL_DELETE_ERROR_MESSAGE;
+            errorMessage = ConflictException.LABEL_DELETE_ERROR_MESSAGE;
         }
         if (errorMessage.contains("PUBLIC.TASKS FOREIGN KEY(ASSIGNEE_ID) REFERENCES PUBLIC.USERS(ID)")) {
-            errorMessage = USER_DELETE_ERROR_MESSAGE;
+            errorMessage = ConflictException.USER_DELETE_ERROR_MESSAGE;
         }
         return ErrorMessageResponse.builder().error(errorMessage).build();
     }
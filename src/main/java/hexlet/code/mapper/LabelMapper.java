@@ -1,16 +1,14 @@
 package hexlet.code.mapper;
 
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.label.LabelCreateDto;
 import hexlet.code.dto.label.LabelResponseDto;
 import hexlet.code.dto.label.LabelUpdateDto;
 import hexlet.code.model.Label;
-import hexlet.code.repository.LabelRepository;
 import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -22,7 +20,7 @@ import java.util.stream.Collectors;
 public abstract class LabelMapper {
 
     @Autowired
-    private LabelRepository labelRepository;
+    private ReferenceDataCache referenceDataCache;
 
     public abstract LabelResponseDto toResponseDto(Label label);
 
@@ -45,7 +43,6 @@ public abstract class LabelMapper {
         if (ids == null) {
             return Collections.emptySet();
         }
-        List<Label> labels = labelRepository.findAllById(ids);
-        return new HashSet<>(labels);
+        return referenceDataCache.findLabelsByIds(ids);
     }
 }
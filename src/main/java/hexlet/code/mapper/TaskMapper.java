@@ -36,4 +36,19 @@ public abstract class TaskMapper {
     @Mapping(target = "taskStatus", source = "status", qualifiedByName = "getTaskStatusBySlag")
     @Mapping(target = "labels", source = "taskLabelIds", qualifiedByName = "getLabelsByIds")
     public abstract void update(TaskUpdateDto updateDto, @MappingTarget Task taskStatus);
+
+    // Bulk writes resolve statuses, labels and assignees once per batch and set them afterwards.
+    @Mapping(target = "name", source = "title")
+    @Mapping(target = "description", source = "content")
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "taskStatus", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract Task toEntityWithoutReferences(TaskCreateDto dto);
+
+    @Mapping(target = "name", source = "title")
+    @Mapping(target = "description", source = "content")
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "taskStatus", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract void updateWithoutReferences(TaskUpdateDto updateDto, @MappingTarget Task task);
 }
@@ -1,11 +1,11 @@
 package hexlet.code.mapper;
 
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.task_status.TaskStatusCreateDto;
 import hexlet.code.dto.task_status.TaskStatusResponseDto;
 import hexlet.code.dto.task_status.TaskStatusUpdateDto;
 import hexlet.code.exception.NotFoundException;
 import hexlet.code.model.TaskStatus;
-import hexlet.code.repository.TaskStatusRepository;
 import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -17,7 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 public abstract class TaskStatusMapper {
 
     @Autowired
-    private TaskStatusRepository taskStatusRepository;
+    private ReferenceDataCache referenceDataCache;
 
     public abstract TaskStatusResponseDto toResponseDto(TaskStatus taskStatus);
 
@@ -27,7 +27,7 @@ public abstract class TaskStatusMapper {
 
     @Named("getTaskStatusBySlag")
     public TaskStatus getTaskStatusBySlag(String slug) {
-        return taskStatusRepository.findBySlug(slug)
+        return referenceDataCache.findTaskStatusBySlug(slug)
                 .orElseThrow(() -> new NotFoundException("TaskStatus with slug " + slug + " not found!"));
     }
 }
@@ -0,0 +1,18 @@
+package hexlet.code.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+// One row per reference collection, see CollectionVersions.
+@Entity
+@Table(name = "collection_versions")
+@Getter
+@Setter
+public class CollectionVersion {
+
+    @Id
+    private String name;
+
+    private long version;
+}
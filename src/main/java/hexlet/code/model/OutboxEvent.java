@@ -0,0 +1,47 @@
+package hexlet.code.model;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+public class OutboxEvent {
+
+    @Id
+    // Events are appended next to every task write, including bulk ones, so they are batched like tasks.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @ToString.Include
+    private TaskEventType eventType;
+
+    @ToString.Include
+    private Long taskId;
+
+    // The task as the change left it, serialized as TaskResponseDto; null for deletions.
+    private String payload;
+
+    private Instant createdAt;
+
+    // Null until every sink has accepted the event.
+    private Instant publishedAt;
+
+    // Position in publication order, which unlike the id follows commit order. Streams resume on it.
+    private Long publishedSeq;
+}
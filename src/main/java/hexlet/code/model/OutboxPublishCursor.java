@@ -0,0 +1,20 @@
+package hexlet.code.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+// The one row holding the last assigned OutboxEvent.publishedSeq.
+@Entity
+@Table(name = "outbox_publish_cursor")
+@Getter
+@Setter
+public class OutboxPublishCursor {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    private long lastSeq;
+}
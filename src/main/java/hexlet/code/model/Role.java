@@ -1,10 +1,13 @@
 package hexlet.code.model;
 
+import hexlet.code.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 
 @Entity
@@ -13,6 +16,7 @@ import org.springframework.security.core.GrantedAuthority;
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(onlyExplicitlyIncluded = true)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.ROLES_REGION)
 public class Role implements GrantedAuthority, BaseEntity {
 
     public static final String ADMIN = "ROLE_ADMIN";
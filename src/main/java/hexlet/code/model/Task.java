@@ -1,5 +1,7 @@
 package hexlet.code.model;
 
+import hexlet.code.config.HibernateCacheConfig;
+import hexlet.code.repository.search.TaskTitleIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -7,9 +9,15 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -20,15 +28,20 @@ import java.util.Set;
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(onlyExplicitlyIncluded = true)
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, TaskTitleIndexListener.class})
 public class Task implements BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // A pooled sequence lets Hibernate batch inserts; IDENTITY would force one round trip per row.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     @ToString.Include
     private Long id;
 
+    @Version
+    private Long version;
+
     @NotBlank
     @Size(min = 1)
     @Column
@@ -40,10 +53,13 @@ public class Task implements BaseEntity {
     @ToString.Include
     private String description;
 
-    @ManyToOne
+    // Associations are lazy: listings read projections, and the detail view resolves the status and labels
+    // from the second-level cache. A join would bypass it.
+    @ManyToOne(fetch = FetchType.LAZY)
     private TaskStatus taskStatus;
 
-    @ManyToOne
+    // Only the id is mapped, which a proxy answers without loading the user.
+    @ManyToOne(fetch = FetchType.LAZY)
     private User assignee;
 
     @CreatedDate
@@ -51,7 +67,17 @@ public class Task implements BaseEntity {
     @Column(updatable = false)
     private LocalDate createdAt;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // createdAt only holds the day; the changes feed needs the instant to tell created from updated tasks.
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant insertedAt;
+
+    @LastModifiedDate
+    private Instant updatedAt;
+
+    @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.TASK_LABELS_REGION)
     @JoinTable(
             name = "task_labels",
             joinColumns = @JoinColumn(name = "task_id"),
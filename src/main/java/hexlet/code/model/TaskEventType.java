@@ -0,0 +1,7 @@
+package hexlet.code.model;
+
+public enum TaskEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_DELETED
+}
@@ -1,5 +1,6 @@
 package hexlet.code.model;
 
+import hexlet.code.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -7,6 +8,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -19,6 +22,7 @@ import java.time.LocalDate;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(onlyExplicitlyIncluded = true)
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.TASK_STATUSES_REGION)
 public class TaskStatus implements BaseEntity {
 
     @Id
@@ -27,6 +31,9 @@ public class TaskStatus implements BaseEntity {
     @ToString.Include
     private Long id;
 
+    @Version
+    private Long version;
+
     @NotBlank
     @Column(unique = true)
     @Size(min = 1)
@@ -0,0 +1,45 @@
+package hexlet.code.model;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "task_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+public class TaskTombstone implements Persistable<Long> {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private Long taskId;
+
+    @ToString.Include
+    private Instant deletedAt;
+
+    public TaskTombstone(Long taskId, Instant deletedAt) {
+        this.taskId = taskId;
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return taskId;
+    }
+
+    // Tombstones are only ever inserted. With an assigned id, save() would otherwise select it first.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package hexlet.code.model;
 
+import hexlet.code.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -8,6 +9,9 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -34,6 +38,9 @@ public class User implements UserDetails, BaseEntity {
     @ToString.Include
     private Long id;
 
+    @Version
+    private Long version;
+
     @ToString.Include
     private String firstName;
 
@@ -60,7 +67,10 @@ public class User implements UserDetails, BaseEntity {
     @ToString.Include
     private LocalDate updatedAt;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // Only authentication needs the roles; it fetches them with UserRepository.findByEmailWithRoles.
+    @ManyToMany
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USER_ROLES_REGION)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
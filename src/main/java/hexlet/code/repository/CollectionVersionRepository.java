@@ -0,0 +1,17 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.CollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, String> {
+
+    @Query("select c.version from CollectionVersion c where c.name = :name")
+    long findVersion(@Param("name") String name);
+
+    @Modifying
+    @Query("update CollectionVersion c set c.version = c.version + 1 where c.name = :name")
+    int increment(@Param("name") String name);
+}
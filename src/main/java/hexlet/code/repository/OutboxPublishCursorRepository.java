@@ -0,0 +1,19 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.OutboxPublishCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OutboxPublishCursorRepository extends JpaRepository<OutboxPublishCursor, Integer> {
+
+    // Held until the relay transaction ends, so publication batches commit one after another, in sequence order.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from OutboxPublishCursor c where c.id = " + OutboxPublishCursor.ID)
+    OutboxPublishCursor lock();
+
+    // Unlike the highest sequence left in outbox_events, this survives the purge of published events.
+    @Query("select c.lastSeq from OutboxPublishCursor c where c.id = " + OutboxPublishCursor.ID)
+    long findLastSeq();
+}
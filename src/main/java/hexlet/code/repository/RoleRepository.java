@@ -1,7 +1,11 @@
 package hexlet.code.repository;
 
+import hexlet.code.config.HibernateCacheConfig;
 import hexlet.code.model.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
@@ -9,5 +13,9 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
 
     boolean existsByAuthority(String authority);
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.ROLE_BY_AUTHORITY_QUERY_REGION)
+    })
     Optional<Role> findByAuthority(String authority);
 }
@@ -4,15 +4,22 @@ import hexlet.code.model.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+import java.time.Instant;
+import java.util.List;
 
-    @Query("select (count(t) > 0) from Task t where t.assignee.id = ?1")
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
+
+    // Served from idx_tasks_updated_at_id_inserted_at alone: [id, insertedAt] per task.
+    @Query("select t.id, t.insertedAt from Task t where t.updatedAt >= :since")
+    List<Object[]> findIdsAndInsertionTimesModifiedSince(@Param("since") Instant since);
+
+    // Derived exists queries fetch at most one row, so they stop at the first match instead of counting.
     boolean existsByAssigneeId(Long id);
 
-    @Query("select (count(t) > 0) from Task t where t.taskStatus.id = ?1")
     boolean existsByTaskStatusId(Long id);
 
-    @Query("select (count(t) > 0) from Task t inner join t.labels labels where labels.id = ?1")
     boolean existsByLabelsId(Long id);
 }
@@ -0,0 +1,17 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskResponseDto;
+import hexlet.code.model.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface TaskRepositoryCustom {
+
+    List<TaskResponseDto> findResponses(Specification<Task> spec, Sort sort, Integer limit);
+
+    void forEachResponseBatch(Specification<Task> spec, Sort sort, int batchSize,
+                              Consumer<List<TaskResponseDto>> action);
+}
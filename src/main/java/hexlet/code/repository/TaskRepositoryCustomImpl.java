@@ -0,0 +1,126 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskResponseDto;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Read-only listing path: rows are projected straight into TaskResponseDto, no Task entities are managed.
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskResponseDto> findResponses(Specification<Task> spec, Sort sort, Integer limit) {
+        TypedQuery<Tuple> query = createResponseQuery(spec, sort);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        List<TaskResponseDto> responses = query.getResultList().stream()
+                .map(this::toResponseDto)
+                .toList();
+        attachLabelIds(responses);
+        return responses;
+    }
+
+    // Forward-only read: rows come off the cursor batchSize at a time and only the current batch is held in memory.
+    @Override
+    public void forEachResponseBatch(Specification<Task> spec, Sort sort, int batchSize,
+                                     Consumer<List<TaskResponseDto>> action) {
+        TypedQuery<Tuple> query = createResponseQuery(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, batchSize);
+        try (Stream<Tuple> rows = query.getResultStream()) {
+            List<TaskResponseDto> batch = new ArrayList<>(batchSize);
+            Iterator<Tuple> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                batch.add(toResponseDto(iterator.next()));
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    attachLabelIds(batch);
+                    action.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    private TypedQuery<Tuple> createResponseQuery(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Join<Task, TaskStatus> status = root.join("taskStatus", JoinType.LEFT);
+        query.multiselect(
+                root.get("id").alias("id"),
+                root.get("index").alias("index"),
+                root.get("createdAt").alias("createdAt"),
+                root.get("assignee").get("id").alias("assigneeId"),
+                root.get("name").alias("title"),
+                root.get("description").alias("content"),
+                status.get("slug").alias("status"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private void attachLabelIds(List<TaskResponseDto> responses) {
+        Map<Long, Set<Long>> labelIds = findLabelIds(responses.stream().map(TaskResponseDto::getId).toList());
+        responses.forEach(dto -> dto.setTaskLabelIds(labelIds.getOrDefault(dto.getId(), Set.of())));
+    }
+
+    private TaskResponseDto toResponseDto(Tuple tuple) {
+        var dto = new TaskResponseDto();
+        dto.setId(tuple.get("id", Long.class));
+        dto.setIndex(tuple.get("index", Integer.class));
+        dto.setCreatedAt(tuple.get("createdAt", LocalDate.class));
+        dto.setAssigneeId(tuple.get("assigneeId", Long.class));
+        dto.setTitle(tuple.get("title", String.class));
+        dto.setContent(tuple.get("content", String.class));
+        dto.setStatus(tuple.get("status", String.class));
+        return dto;
+    }
+
+    // Label ids of the whole result are read from the join table in one statement: the ids are bound as a
+    // single array parameter, so neither the statement count nor the bind parameter limit grows with the rows.
+    @SuppressWarnings("unchecked")
+    private Map<Long, Set<Long>> findLabelIds(List<Long> taskIds) {
+        Map<Long, Set<Long>> labelIds = new HashMap<>();
+        if (taskIds.isEmpty()) {
+            return labelIds;
+        }
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "select tl.task_id, tl.label_id from task_labels tl where tl.task_id = any(:ids)")
+                .setParameter("ids", taskIds.toArray(Long[]::new))
+                .getResultList();
+        rows.forEach(row -> labelIds.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashSet<>())
+                .add(((Number) row[1]).longValue()));
+        return labelIds;
+    }
+}
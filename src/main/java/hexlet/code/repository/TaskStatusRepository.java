@@ -1,7 +1,11 @@
 package hexlet.code.repository;
 
+import hexlet.code.config.HibernateCacheConfig;
 import hexlet.code.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
@@ -9,5 +13,10 @@ public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
 
     boolean existsByNameIgnoreCaseOrSlugIgnoreCase(String name, String slug);
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION,
+                value = HibernateCacheConfig.TASK_STATUS_BY_SLUG_QUERY_REGION)
+    })
     Optional<TaskStatus> findBySlug(String slug);
 }
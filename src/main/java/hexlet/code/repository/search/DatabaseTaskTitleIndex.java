@@ -0,0 +1,20 @@
+package hexlet.code.repository.search;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// lower(name) LIKE '%...%' is served by the gin_trgm_ops index on Postgres (see
+// db/migration/postgresql/V3__task_title_trigram_index.sql).
+@Component
+@ConditionalOnProperty(prefix = "app.search", name = "title-index", havingValue = "database", matchIfMissing = true)
+public class DatabaseTaskTitleIndex implements TaskTitleIndex {
+
+    @Override
+    public Predicate titleContains(Root<Task> root, CriteriaBuilder cb, String text) {
+        return TaskTitleIndex.likeIgnoreCase(root, cb, text);
+    }
+}
@@ -0,0 +1,163 @@
+package hexlet.code.repository.search;
+
+import hexlet.code.config.properties.TaskSearchProperties;
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// Token inverted index for databases without trigram indexes (H2). Each query token is matched against
+// the token vocabulary, which is far smaller than the task table, and the posting lists of the matching
+// tokens are intersected. Candidates are then checked against the full title, and the SQL predicate
+// re-checks the title as well, so a stale entry can only cost a wasted id, never a wrong row.
+// The index lives in one JVM: use it for single-instance deployments only.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.search", name = "title-index", havingValue = "memory")
+public class InMemoryTaskTitleIndex implements TaskTitleIndex {
+
+    private static final int CANDIDATE_SCAN_FACTOR = 10;
+
+    private final TaskSearchProperties properties;
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public InMemoryTaskTitleIndex(TaskSearchProperties properties) {
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        try (Stream<Object[]> rows = entityManager.createQuery("select t.id, t.name from Task t", Object[].class)
+                .getResultStream()) {
+            load(rows.map(row -> Map.entry((Long) row[0], (String) row[1])));
+        }
+        log.info("Indexed {} task titles", titles.size());
+    }
+
+    public void load(Stream<Map.Entry<Long, String>> taskTitles) {
+        // Titles committed while loading are already indexed and must not be overwritten with older values.
+        taskTitles.filter(entry -> !titles.containsKey(entry.getKey()))
+                .forEach(entry -> indexTitle(entry.getKey(), entry.getValue()));
+        loaded = true;
+    }
+
+    @Override
+    public Predicate titleContains(Root<Task> root, CriteriaBuilder cb, String text) {
+        Predicate like = TaskTitleIndex.likeIgnoreCase(root, cb, text);
+        Optional<Set<Long>> ids = search(text);
+        if (ids.isEmpty()) {
+            return like;
+        }
+        if (ids.get().isEmpty()) {
+            return cb.disjunction();
+        }
+        return cb.and(root.get("id").in(ids.get()), like);
+    }
+
+    // Empty when the index cannot narrow the search down and the caller should scan with LIKE.
+    public Optional<Set<Long>> search(String text) {
+        String query = TaskTitleIndex.normalize(text);
+        List<String> queryTokens = tokenize(query);
+        if (!loaded || queryTokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Every match contains each query token inside one of its own tokens, so the most selective
+        // query token bounds the candidates; the full title check below makes the result exact.
+        List<Set<Long>> selectivePostings = List.of();
+        long selectiveSize = Long.MAX_VALUE;
+        for (String queryToken : queryTokens) {
+            List<Set<Long>> matched = new ArrayList<>();
+            long size = 0;
+            for (Map.Entry<String, Set<Long>> entry : postings.entrySet()) {
+                if (entry.getKey().contains(queryToken)) {
+                    matched.add(entry.getValue());
+                    size += entry.getValue().size();
+                }
+            }
+            if (size < selectiveSize) {
+                selectivePostings = matched;
+                selectiveSize = size;
+            }
+        }
+        if (selectiveSize > (long) properties.getMaxCandidates() * CANDIDATE_SCAN_FACTOR) {
+            return Optional.empty();
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (Set<Long> tokenIds : selectivePostings) {
+            for (Long id : tokenIds) {
+                String title = titles.get(id);
+                if (title != null && title.contains(query)) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids.size() > properties.getMaxCandidates() ? Optional.empty() : Optional.of(ids);
+    }
+
+    @Override
+    public void indexTitle(Long taskId, String title) {
+        String normalized = title == null ? "" : TaskTitleIndex.normalize(title);
+        String previous = titles.put(taskId, normalized);
+        if (normalized.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            removePostings(taskId, previous);
+        }
+        for (String token : tokenize(normalized)) {
+            postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(taskId);
+        }
+    }
+
+    @Override
+    public void removeTitle(Long taskId) {
+        String previous = titles.remove(taskId);
+        if (previous != null) {
+            removePostings(taskId, previous);
+        }
+    }
+
+    private void removePostings(Long taskId, String title) {
+        for (String token : tokenize(title)) {
+            postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(taskId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,36 @@
+package hexlet.code.repository.search;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Locale;
+
+// Backend for the titleCont filter: case-insensitive substring match on Task.name.
+public interface TaskTitleIndex {
+
+    char LIKE_ESCAPE = '\\';
+
+    Predicate titleContains(Root<Task> root, CriteriaBuilder cb, String text);
+
+    default void indexTitle(Long taskId, String title) {
+    }
+
+    default void removeTitle(Long taskId) {
+    }
+
+    static Predicate likeIgnoreCase(Root<Task> root, CriteriaBuilder cb, String text) {
+        return cb.like(cb.lower(root.get("name")), "%" + escapeLike(normalize(text)) + "%", LIKE_ESCAPE);
+    }
+
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
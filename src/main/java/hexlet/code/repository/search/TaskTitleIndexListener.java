@@ -0,0 +1,50 @@
+package hexlet.code.repository.search;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+// The index is resolved lazily: entity listeners are created while the EntityManagerFactory is still
+// being built.
+@Component
+@RequiredArgsConstructor
+public class TaskTitleIndexListener {
+
+    private final ObjectProvider<TaskTitleIndex> taskTitleIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Task task) {
+        Long id = task.getId();
+        String title = task.getName();
+        afterCommit(index -> index.indexTitle(id, title));
+    }
+
+    @PostRemove
+    public void onRemoved(Task task) {
+        Long id = task.getId();
+        afterCommit(index -> index.removeTitle(id));
+    }
+
+    // A rolled back write must not reach the index, or a later search could miss the committed title.
+    private void afterCommit(Consumer<TaskTitleIndex> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.accept(taskTitleIndex.getObject());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.accept(taskTitleIndex.getObject());
+            }
+        });
+    }
+}
@@ -1,15 +1,24 @@
 package hexlet.code.repository.specification;
 
+import hexlet.code.dto.task.TaskCursor;
 import hexlet.code.dto.task.TaskFiltrationDto;
 import hexlet.code.model.Task;
+import hexlet.code.repository.search.TaskTitleIndex;
+import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.StringJoiner;
+
 import static org.springframework.util.StringUtils.hasText;
 
 @Component
+@RequiredArgsConstructor
 public class TaskSpecification {
 
+    private final TaskTitleIndex taskTitleIndex;
+
     public Specification<Task> build(TaskFiltrationDto filtration) {
         return withTitle(filtration.getTitleCont())
                 .and(withAssignee(filtration.getAssigneeId()))
@@ -17,10 +26,42 @@ public class TaskSpecification {
                 .and(withLabel(filtration.getLabelId()));
     }
 
+    // The filters in use, e.g. "title+status", without their values: a low-cardinality metric tag.
+    public static String shape(TaskFiltrationDto filtration) {
+        var shape = new StringJoiner("+").setEmptyValue("none");
+        if (hasText(filtration.getTitleCont())) {
+            shape.add("title");
+        }
+        if (filtration.getAssigneeId() != null) {
+            shape.add("assignee");
+        }
+        if (hasText(filtration.getStatus())) {
+            shape.add("status");
+        }
+        if (filtration.getLabelId() != null) {
+            shape.add("label");
+        }
+        return shape.toString();
+    }
+
+    public Specification<Task> after(TaskCursor cursor, boolean orderedByCreatedAt) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            var idAfter = cb.greaterThan(root.<Long>get("id"), cursor.id());
+            if (!orderedByCreatedAt) {
+                return idAfter;
+            }
+            return cb.or(cb.greaterThan(root.<LocalDate>get("createdAt"), cursor.createdAt()),
+                    cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()), idAfter));
+        };
+    }
+
     private Specification<Task> withTitle(String titleSubstring) {
         return (root, query, cb) -> !hasText(titleSubstring)
                 ? cb.conjunction()
-                : cb.like(root.get("name"), "%" + titleSubstring + "%");
+                : taskTitleIndex.titleContains(root, cb, titleSubstring);
     }
 
     private Specification<Task> withAssignee(Long assigneeId) {
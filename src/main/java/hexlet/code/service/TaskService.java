@@ -1,11 +1,17 @@
 package hexlet.code.service;
 
+import hexlet.code.dto.task.TaskBulkResultDto;
+import hexlet.code.dto.task.TaskBulkUpdateDto;
+import hexlet.code.dto.task.TaskChangesDto;
 import hexlet.code.dto.task.TaskCreateDto;
 import hexlet.code.dto.task.TaskFiltrationDto;
+import hexlet.code.dto.task.TaskPageDto;
+import hexlet.code.dto.task.TaskPageRequestDto;
 import hexlet.code.dto.task.TaskResponseDto;
 import hexlet.code.dto.task.TaskUpdateDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
 
@@ -13,9 +19,23 @@ public interface TaskService {
 
     List<TaskResponseDto> getAllTasks(TaskFiltrationDto filtration);
 
+    TaskPageDto getTasksPage(TaskFiltrationDto filtration, TaskPageRequestDto pageRequest);
+
+    long countTasks(TaskFiltrationDto filtration);
+
+    TaskChangesDto getChanges(String since);
+
+    void exportTasks(TaskFiltrationDto filtration, Consumer<List<TaskResponseDto>> batchConsumer);
+
     TaskResponseDto createTask(TaskCreateDto dto);
 
-    TaskResponseDto updateTask(Long id, TaskUpdateDto dto);
+    TaskResponseDto updateTask(Long id, TaskUpdateDto dto, Long expectedVersion);
 
     void deleteTask(Long id);
+
+    List<TaskBulkResultDto> createTasks(List<TaskCreateDto> dtos);
+
+    List<TaskBulkResultDto> updateTasks(List<TaskBulkUpdateDto> dtos);
+
+    List<TaskBulkResultDto> deleteTasks(List<Long> ids);
 }
@@ -1,14 +1,17 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
 import hexlet.code.exception.NotFoundException;
 import hexlet.code.model.Role;
 import hexlet.code.model.User;
 import hexlet.code.repository.RoleRepository;
 import hexlet.code.repository.UserRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.UserDetailsManager;
@@ -22,12 +25,14 @@ import java.util.Set;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsManager {
+public class CustomUserDetailsService implements UserDetailsManager, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final RoleRepository roleRepository;
+    private final CollectionVersions collectionVersions;
 
+    @Transactional
     @Override
     public void createUser(UserDetails userDetails) {
         User user = new User();
@@ -56,6 +61,7 @@ public class CustomUserDetailsService implements UserDetailsManager {
         }
 
         userRepository.save(user);
+        collectionVersions.bump(CollectionVersions.USERS);
     }
 
     @Override
@@ -73,6 +79,16 @@ public class CustomUserDetailsService implements UserDetailsManager {
         throw new UnsupportedOperationException("Unimplemented method 'changePassword'");
     }
 
+    @Transactional
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmailWithRoles(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        user.setPasswordDigest(newPassword);
+        log.info("Upgraded password encoding for user : {}", user.getEmail());
+        return userRepository.save(user);
+    }
+
     @Override
     public boolean userExists(String username) {
         return userRepository.existsByEmail(username);
@@ -1,15 +1,20 @@
 package hexlet.code.service.impl;
 
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.label.LabelCreateDto;
 import hexlet.code.dto.label.LabelResponseDto;
 import hexlet.code.dto.label.LabelUpdateDto;
 import hexlet.code.exception.AlreadyExistException;
+import hexlet.code.exception.ConflictException;
 import hexlet.code.exception.NotFoundException;
 import hexlet.code.mapper.LabelMapper;
 import hexlet.code.model.Label;
 import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
 import hexlet.code.service.LabelService;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,10 +26,14 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Observed(name = "app.service")
 public class LabelServiceImpl implements LabelService {
 
     private final LabelRepository labelRepository;
     private final LabelMapper labelMapper;
+    private final TaskRepository taskRepository;
+    private final CollectionVersions collectionVersions;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public LabelResponseDto getLabelById(Long id) {
@@ -47,6 +56,7 @@ public class LabelServiceImpl implements LabelService {
             throw new AlreadyExistException("Label with name " + dto.getName() + " already in use!");
         }
         Label label = labelMapper.toEntity(dto);
+        collectionVersions.bump(CollectionVersions.LABELS);
         return labelMapper.toResponseDto(labelRepository.save(label));
     }
 
@@ -56,12 +66,19 @@ public class LabelServiceImpl implements LabelService {
         Label label = labelRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Label with id " + id + " not found!"));
         labelMapper.update(dto, label);
+        referenceDataCache.invalidateLabels();
+        collectionVersions.bump(CollectionVersions.LABELS);
         return labelMapper.toResponseDto(labelRepository.save(label));
     }
 
     @Transactional
     @Override
     public void deleteLabel(Long id) {
+        if (taskRepository.existsByLabelsId(id)) {
+            throw new ConflictException(ConflictException.LABEL_DELETE_ERROR_MESSAGE);
+        }
         labelRepository.deleteById(id);
+        referenceDataCache.invalidateLabels();
+        collectionVersions.bump(CollectionVersions.LABELS);
     }
 }
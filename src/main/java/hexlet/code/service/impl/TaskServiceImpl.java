@@ -1,33 +1,94 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.ReferenceDataCache;
+import hexlet.code.component.outbox.TaskEventOutbox;
+import hexlet.code.config.CacheConfig;
+import hexlet.code.config.properties.TaskSyncProperties;
+import hexlet.code.dto.task.TaskBulkResultDto;
+import hexlet.code.dto.task.TaskBulkUpdateDto;
+import hexlet.code.dto.task.TaskChangesDto;
+import hexlet.code.dto.task.TaskChangesToken;
 import hexlet.code.dto.task.TaskCreateDto;
+import hexlet.code.dto.task.TaskCursor;
 import hexlet.code.dto.task.TaskFiltrationDto;
+import hexlet.code.dto.task.TaskPageDto;
+import hexlet.code.dto.task.TaskPageRequestDto;
 import hexlet.code.dto.task.TaskResponseDto;
 import hexlet.code.dto.task.TaskUpdateDto;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.exception.GoneException;
 import hexlet.code.exception.NotFoundException;
+import hexlet.code.exception.PreconditionFailedException;
 import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
 import hexlet.code.model.Task;
+import hexlet.code.model.TaskEventType;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.TaskTombstone;
+import hexlet.code.model.User;
 import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskTombstoneRepository;
+import hexlet.code.repository.UserRepository;
 import hexlet.code.repository.specification.TaskSpecification;
 import hexlet.code.service.TaskService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Observed(name = "app.service")
 public class TaskServiceImpl implements TaskService {
 
+    // Task queries timed per filter shape, so slow filter combinations stand out.
+    public static final String QUERY_OBSERVATION = "app.tasks.query";
+
+    public static final int EXPORT_BATCH_SIZE = 500;
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final String NULL_BULK_ITEM_MESSAGE = "Bulk item must not be null";
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final TaskSpecification taskSpecification;
+    private final UserRepository userRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final Validator validator;
+    private final ObservationRegistry observationRegistry;
+    private final TaskEventOutbox taskEventOutbox;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskSyncProperties taskSyncProperties;
 
+    // Lazy associations are mapped inside the transaction; open-in-view is off.
+    @Transactional
     @Override
     public TaskResponseDto getTaskById(Long id) {
         Task task = taskRepository.findById(id)
@@ -38,30 +99,347 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public List<TaskResponseDto> getAllTasks(TaskFiltrationDto filtration) {
         Specification<Task> spec = taskSpecification.build(filtration);
-        return taskRepository.findAll(spec).stream()
-                .map(taskMapper::toResponseDto)
-                .collect(Collectors.toList());
+        return observeQuery("list", filtration, () -> taskRepository.findResponses(spec, Sort.by("id"), null));
+    }
+
+    @Override
+    public TaskPageDto getTasksPage(TaskFiltrationDto filtration, TaskPageRequestDto pageRequest) {
+        boolean byCreatedAt = pageRequest.isOrderedByCreatedAt();
+        int limit = pageRequest.getLimit() != null ? pageRequest.getLimit() : TaskPageRequestDto.DEFAULT_LIMIT;
+        TaskCursor cursor = pageRequest.getAfter() != null ? TaskCursor.decode(pageRequest.getAfter()) : null;
+        if (cursor != null && byCreatedAt && cursor.createdAt() == null) {
+            throw new BadRequestException("Cursor " + pageRequest.getAfter() + " is not ordered by createdAt");
+        }
+
+        Specification<Task> spec = taskSpecification.build(filtration)
+                .and(taskSpecification.after(cursor, byCreatedAt));
+        Sort sort = byCreatedAt ? Sort.by("createdAt", "id") : Sort.by("id");
+        // One extra row tells whether there is a next page without running a count query.
+        List<TaskResponseDto> tasks = observeQuery("page", filtration,
+                () -> taskRepository.findResponses(spec, sort, limit + 1));
+
+        boolean hasNext = tasks.size() > limit;
+        List<TaskResponseDto> content = hasNext ? tasks.subList(0, limit) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskResponseDto last = content.get(content.size() - 1);
+            nextCursor = new TaskCursor(last.getId(), byCreatedAt ? last.getCreatedAt() : null).encode();
+        }
+        return new TaskPageDto(content, nextCursor);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.TASK_COUNTS_CACHE, key = "#filtration")
+    @Override
+    public long countTasks(TaskFiltrationDto filtration) {
+        Specification<Task> spec = taskSpecification.build(filtration);
+        return observeQuery("count", filtration, () -> taskRepository.count(spec));
     }
 
     @Transactional
     @Override
+    public TaskChangesDto getChanges(String since) {
+        Instant now = Instant.now();
+        String next = new TaskChangesToken(now.minus(taskSyncProperties.getCommitLag())).encode();
+        if (since == null) {
+            return new TaskChangesDto(List.of(), List.of(), List.of(), next);
+        }
+        Instant watermark = TaskChangesToken.decode(since).watermark();
+        if (watermark.isBefore(now.minus(taskSyncProperties.getTombstoneRetention()))) {
+            throw new GoneException("Changes before " + watermark + " are no longer tracked, reload all tasks");
+        }
+        List<Long> created = new ArrayList<>();
+        List<Long> updated = new ArrayList<>();
+        // A task inserted after the watermark is new to the client, however often it was updated since.
+        for (Object[] row : taskRepository.findIdsAndInsertionTimesModifiedSince(watermark)) {
+            Long id = (Long) row[0];
+            if (!((Instant) row[1]).isBefore(watermark)) {
+                created.add(id);
+            } else {
+                updated.add(id);
+            }
+        }
+        return new TaskChangesDto(created, updated, taskTombstoneRepository.findTaskIdsDeletedSince(watermark), next);
+    }
+
+    // The transaction keeps the connection and cursor open while batches are written to the client.
+    @Transactional
+    @Override
+    public void exportTasks(TaskFiltrationDto filtration, Consumer<List<TaskResponseDto>> batchConsumer) {
+        Specification<Task> spec = taskSpecification.build(filtration);
+        observeQuery("export", filtration, () -> {
+            taskRepository.forEachResponseBatch(spec, Sort.by("id"), EXPORT_BATCH_SIZE, batchConsumer);
+            return null;
+        });
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS_CACHE, allEntries = true)
+    @Override
     public TaskResponseDto createTask(TaskCreateDto dto) {
         Task task = taskMapper.toEntity(dto);
-        return taskMapper.toResponseDto(taskRepository.save(task));
+        TaskResponseDto created = taskMapper.toResponseDto(taskRepository.save(task));
+        taskEventOutbox.append(TaskEventType.TASK_CREATED, List.of(created));
+        return created;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS_CACHE, allEntries = true)
     @Override
-    public TaskResponseDto updateTask(Long id, TaskUpdateDto dto) {
+    public TaskResponseDto updateTask(Long id, TaskUpdateDto dto, Long expectedVersion) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Task with id " + id + " not found!"));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task with id " + id + " has been modified");
+        }
         taskMapper.update(dto, task);
-        return taskMapper.toResponseDto(taskRepository.save(task));
+        // No lock and no retry: the update is qualified by the version read above, so a write committed in
+        // between fails here with an optimistic locking error. Flushing also returns the new version.
+        Task saved;
+        try {
+            saved = taskRepository.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion == null) {
+                throw e;
+            }
+            // The caller's If-Match no longer holds, so this is the 412 the header promises, not a 409.
+            throw new PreconditionFailedException("Task with id " + id + " has been modified");
+        }
+        TaskResponseDto updated = taskMapper.toResponseDto(saved);
+        taskEventOutbox.append(TaskEventType.TASK_UPDATED, List.of(updated));
+        return updated;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS_CACHE, allEntries = true)
     @Override
     public void deleteTask(Long id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            taskRepository.delete(task);
+            taskTombstoneRepository.save(new TaskTombstone(id, Instant.now()));
+            taskEventOutbox.appendDeleted(List.of(id));
+        });
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS_CACHE, allEntries = true)
+    @Override
+    public List<TaskBulkResultDto> createTasks(List<TaskCreateDto> dtos) {
+        checkBulkSize(dtos);
+        List<TaskCreateDto> items = dtos.stream().filter(Objects::nonNull).toList();
+        References references = loadReferences(
+                items.stream().map(TaskCreateDto::getStatus).toList(),
+                items.stream().map(TaskCreateDto::getTaskLabelIds).toList(),
+                items.stream().map(TaskCreateDto::getAssigneeId).toList());
+
+        TaskBulkResultDto[] results = new TaskBulkResultDto[dtos.size()];
+        Map<Integer, Task> created = new HashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            TaskCreateDto dto = dtos.get(i);
+            if (dto == null) {
+                results[i] = TaskBulkResultDto.failed(i, null, HttpStatus.BAD_REQUEST, NULL_BULK_ITEM_MESSAGE);
+                continue;
+            }
+            String error = findViolations(dto);
+            if (error != null) {
+                results[i] = TaskBulkResultDto.failed(i, null, HttpStatus.BAD_REQUEST, error);
+                continue;
+            }
+            error = references.findMissing(dto.getStatus(), dto.getTaskLabelIds(), dto.getAssigneeId());
+            if (error != null) {
+                results[i] = TaskBulkResultDto.failed(i, null, HttpStatus.NOT_FOUND, error);
+                continue;
+            }
+            Task task = taskMapper.toEntityWithoutReferences(dto);
+            task.setTaskStatus(references.statuses().get(dto.getStatus()));
+            task.setLabels(references.labelsOf(dto.getTaskLabelIds()));
+            task.setAssignee(references.assignees().get(dto.getAssigneeId()));
+            created.put(i, task);
+        }
+        // Ids come from the pooled sequence, so the inserts are sent as JDBC batches on flush.
+        taskRepository.saveAll(created.values());
+        taskRepository.flush();
+        created.forEach((position, task) -> results[position] =
+                TaskBulkResultDto.succeeded(position, HttpStatus.CREATED, taskMapper.toResponseDto(task)));
+        taskEventOutbox.append(TaskEventType.TASK_CREATED, succeededTasks(Arrays.asList(results)));
+        return Arrays.asList(results);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS_CACHE, allEntries = true)
+    @Override
+    public List<TaskBulkResultDto> updateTasks(List<TaskBulkUpdateDto> dtos) {
+        checkBulkSize(dtos);
+        List<TaskBulkUpdateDto> items = dtos.stream().filter(Objects::nonNull).toList();
+        References references = loadReferences(
+                items.stream().map(dto -> presentValue(dto.getStatus())).toList(),
+                items.stream().map(dto -> presentValue(dto.getTaskLabelIds())).toList(),
+                items.stream().map(dto -> presentValue(dto.getAssigneeId())).toList());
+        Map<Long, Task> tasks = findTasks(items.stream().map(TaskBulkUpdateDto::getId).toList());
+
+        TaskBulkResultDto[] results = new TaskBulkResultDto[dtos.size()];
+        Map<Integer, Task> updated = new HashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            TaskBulkUpdateDto dto = dtos.get(i);
+            if (dto == null) {
+                results[i] = TaskBulkResultDto.failed(i, null, HttpStatus.BAD_REQUEST, NULL_BULK_ITEM_MESSAGE);
+                continue;
+            }
+            String error = findViolations(dto);
+            if (error != null) {
+                results[i] = TaskBulkResultDto.failed(i, dto.getId(), HttpStatus.BAD_REQUEST, error);
+                continue;
+            }
+            Task task = tasks.get(dto.getId());
+            if (task == null) {
+                results[i] = TaskBulkResultDto.failed(i, dto.getId(), HttpStatus.NOT_FOUND,
+                        "Task with id " + dto.getId() + " not found!");
+                continue;
+            }
+            error = references.findMissing(presentValue(dto.getStatus()), presentValue(dto.getTaskLabelIds()),
+                    presentValue(dto.getAssigneeId()));
+            if (error != null) {
+                results[i] = TaskBulkResultDto.failed(i, dto.getId(), HttpStatus.NOT_FOUND, error);
+                continue;
+            }
+            taskMapper.updateWithoutReferences(dto, task);
+            if (isPresent(dto.getStatus())) {
+                task.setTaskStatus(references.statuses().get(dto.getStatus().get()));
+            }
+            if (isPresent(dto.getTaskLabelIds())) {
+                task.setLabels(references.labelsOf(dto.getTaskLabelIds().get()));
+            }
+            if (isPresent(dto.getAssigneeId())) {
+                task.setAssignee(references.assignees().get(dto.getAssigneeId().get()));
+            }
+            updated.put(i, task);
+        }
+        // Dirty tasks are flushed as ordered, batched updates; only then do they carry the new version and
+        // updatedAt that the response and the events report.
+        taskRepository.flush();
+        updated.forEach((position, task) -> results[position] =
+                TaskBulkResultDto.succeeded(position, HttpStatus.OK, taskMapper.toResponseDto(task)));
+        taskEventOutbox.append(TaskEventType.TASK_UPDATED, succeededTasks(Arrays.asList(results)));
+        return Arrays.asList(results);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS_CACHE, allEntries = true)
+    @Override
+    public List<TaskBulkResultDto> deleteTasks(List<Long> ids) {
+        checkBulkSize(ids);
+        Map<Long, Task> tasks = findTasks(ids);
+        List<TaskBulkResultDto> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results.add(TaskBulkResultDto.failed(i, null, HttpStatus.BAD_REQUEST, NULL_BULK_ITEM_MESSAGE));
+            } else if (tasks.containsKey(id)) {
+                results.add(TaskBulkResultDto.deleted(i, id));
+            } else {
+                results.add(TaskBulkResultDto.failed(i, id, HttpStatus.NOT_FOUND,
+                        "Task with id " + id + " not found!"));
+            }
+        }
+        taskRepository.deleteAll(tasks.values());
+        Instant now = Instant.now();
+        taskTombstoneRepository.saveAll(tasks.keySet().stream().map(id -> new TaskTombstone(id, now)).toList());
+        taskEventOutbox.appendDeleted(tasks.keySet());
+        taskRepository.flush();
+        return results;
+    }
+
+    private static List<TaskResponseDto> succeededTasks(List<TaskBulkResultDto> results) {
+        return results.stream()
+                .map(TaskBulkResultDto::getTask)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("Bulk request may contain at most " + MAX_BULK_SIZE + " items");
+        }
+    }
+
+    private String findViolations(Object dto) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private Map<Long, Task> findTasks(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return taskRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    // Every status, label and assignee referenced by the batch is read once up front.
+    private References loadReferences(List<String> slugs, List<Set<Long>> labelIds, List<Long> assigneeIds) {
+        Map<String, TaskStatus> statuses = new HashMap<>();
+        slugs.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(slug -> referenceDataCache.findTaskStatusBySlug(slug)
+                        .ifPresent(status -> statuses.put(slug, status)));
+
+        Set<Long> allLabelIds = labelIds.stream()
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet());
+        Map<Long, Label> labels = allLabelIds.isEmpty() ? new HashMap<>()
+                : referenceDataCache.findLabelsByIds(allLabelIds).stream()
+                .collect(Collectors.toMap(Label::getId, Function.identity()));
+
+        List<Long> allAssigneeIds = assigneeIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, User> assignees = allAssigneeIds.isEmpty() ? new HashMap<>()
+                : userRepository.findAllById(allAssigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return new References(statuses, labels, assignees);
+    }
+
+    private <T> T observeQuery(String query, TaskFiltrationDto filtration, Supplier<T> execution) {
+        return Observation.createNotStarted(QUERY_OBSERVATION, observationRegistry)
+                .lowCardinalityKeyValue("query", query)
+                .lowCardinalityKeyValue("filter", TaskSpecification.shape(filtration))
+                .observe(execution);
+    }
+
+    private static boolean isPresent(JsonNullable<?> nullable) {
+        return nullable != null && nullable.isPresent();
+    }
+
+    private static <T> T presentValue(JsonNullable<T> nullable) {
+        return isPresent(nullable) ? nullable.get() : null;
+    }
+
+    private record References(Map<String, TaskStatus> statuses, Map<Long, Label> labels, Map<Long, User> assignees) {
+
+        String findMissing(String status, Set<Long> labelIds, Long assigneeId) {
+            if (status != null && !statuses.containsKey(status)) {
+                return "TaskStatus with slug " + status + " not found!";
+            }
+            if (labelIds != null && !labels.keySet().containsAll(labelIds)) {
+                return "Labels with ids " + labelIds + " not found!";
+            }
+            if (assigneeId != null && !assignees.containsKey(assigneeId)) {
+                return "User with id " + assigneeId + " not found!";
+            }
+            return null;
+        }
+
+        Set<Label> labelsOf(Set<Long> labelIds) {
+            if (labelIds == null) {
+                return new HashSet<>();
+            }
+            return labelIds.stream().map(labels::get).collect(Collectors.toCollection(HashSet::new));
+        }
     }
 }
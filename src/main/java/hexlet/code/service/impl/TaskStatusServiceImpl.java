@@ -1,14 +1,19 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.task_status.TaskStatusCreateDto;
 import hexlet.code.dto.task_status.TaskStatusResponseDto;
 import hexlet.code.dto.task_status.TaskStatusUpdateDto;
 import hexlet.code.exception.AlreadyExistException;
+import hexlet.code.exception.ConflictException;
 import hexlet.code.exception.NotFoundException;
 import hexlet.code.mapper.TaskStatusMapper;
 import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.service.TaskStatusService;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,10 +25,14 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Observed(name = "app.service")
 public class TaskStatusServiceImpl implements TaskStatusService {
 
     private final TaskStatusRepository taskStatusRepository;
     private final TaskStatusMapper taskStatusMapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final TaskRepository taskRepository;
+    private final CollectionVersions collectionVersions;
 
     @Override
     public TaskStatusResponseDto getTaskStatusById(Long id) {
@@ -49,6 +58,7 @@ public class TaskStatusServiceImpl implements TaskStatusService {
                             dto.getSlug()));
         }
         TaskStatus taskStatus = taskStatusMapper.toEntity(dto);
+        collectionVersions.bump(CollectionVersions.TASK_STATUSES);
         return taskStatusMapper.toResponseDto(taskStatusRepository.save(taskStatus));
     }
 
@@ -58,12 +68,19 @@ public class TaskStatusServiceImpl implements TaskStatusService {
         TaskStatus taskStatus = taskStatusRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("TaskStatus with id " + id + " not found!"));
         taskStatusMapper.update(dto, taskStatus);
+        referenceDataCache.invalidateTaskStatuses();
+        collectionVersions.bump(CollectionVersions.TASK_STATUSES);
         return taskStatusMapper.toResponseDto(taskStatusRepository.save(taskStatus));
     }
 
     @Transactional
     @Override
     public void deleteTaskStatus(Long id) {
+        if (taskRepository.existsByTaskStatusId(id)) {
+            throw new ConflictException(ConflictException.TASK_STATUS_DELETE_ERROR_MESSAGE);
+        }
         taskStatusRepository.deleteById(id);
+        referenceDataCache.invalidateTaskStatuses();
+        collectionVersions.bump(CollectionVersions.TASK_STATUSES);
     }
 }
@@ -1,17 +1,23 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
 import hexlet.code.dto.user.UserCreateDto;
 import hexlet.code.dto.user.UserResponseDto;
 import hexlet.code.dto.user.UserUpdateDto;
 import hexlet.code.exception.AlreadyExistException;
+import hexlet.code.exception.ConflictException;
 import hexlet.code.exception.NotFoundException;
 import hexlet.code.mapper.UserMapper;
 import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.service.UserService;
+import hexlet.code.util.UserUtils;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,10 +26,13 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Observed(name = "app.service")
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final TaskRepository taskRepository;
+    private final CollectionVersions collectionVersions;
 
     @Override
     public UserResponseDto getUserById(Long id) {
@@ -47,21 +56,29 @@ public class UserServiceImpl implements UserService {
             throw new AlreadyExistException("Email " + dto.getEmail() + " already in use!");
         }
         User user = userMapper.toEntity(dto);
+        collectionVersions.bump(CollectionVersions.USERS);
         return userMapper.toResponseDto(userRepository.save(user));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = UserUtils.USER_IDS_BY_EMAIL_CACHE, allEntries = true)
     @Override
     public UserResponseDto updateUser(Long id, UserUpdateDto dto) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("User with id " + id + " not found!"));
         userMapper.update(dto, user);
+        collectionVersions.bump(CollectionVersions.USERS);
         return userMapper.toResponseDto(userRepository.save(user));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = UserUtils.USER_IDS_BY_EMAIL_CACHE, allEntries = true)
     @Override
     public void deleteUser(Long id) {
+        if (taskRepository.existsByAssigneeId(id)) {
+            throw new ConflictException(ConflictException.USER_DELETE_ERROR_MESSAGE);
+        }
         userRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersions.USERS);
     }
 }
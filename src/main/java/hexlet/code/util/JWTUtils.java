@@ -16,20 +16,29 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JWTUtils {
 
+    public static final String USER_ID_CLAIM = "uid";
+
     private final JwtEncoder encoder;
 
     public String generateToken(String username, Collection<? extends GrantedAuthority> grantedAuthorities) {
+        return generateToken(null, username, grantedAuthorities);
+    }
+
+    public String generateToken(Long userId, String username,
+                                Collection<? extends GrantedAuthority> grantedAuthorities) {
         Instant now = Instant.now();
         String authorities = grantedAuthorities.stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(" "));
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.HOURS))
                 .subject(username)
-                .claim("scope", authorities)
-                .build();
-        return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+                .claim("scope", authorities);
+        if (userId != null) {
+            claims.claim(USER_ID_CLAIM, userId);
+        }
+        return this.encoder.encode(JwtEncoderParameters.from(claims.build())).getTokenValue();
     }
 }
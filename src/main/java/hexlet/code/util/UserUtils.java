@@ -3,7 +3,10 @@ package hexlet.code.util;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
@@ -12,7 +15,10 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class UserUtils {
 
+    public static final String USER_IDS_BY_EMAIL_CACHE = "user-ids-by-email";
+
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
 
     public User getCurrentUser() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -23,8 +29,31 @@ public class UserUtils {
         return userRepository.findByEmail(email).orElse(null);
     }
 
+    public Long getCurrentUserId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication
+                && jwtAuthentication.getToken().getClaims().get(JWTUtils.USER_ID_CLAIM) instanceof Number userId) {
+            return userId.longValue();
+        }
+        // Tokens issued without the uid claim are resolved by email through a short-lived cache.
+        var email = authentication.getName();
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(USER_IDS_BY_EMAIL_CACHE));
+        Long cachedId = cache.get(email, Long.class);
+        if (cachedId != null) {
+            return cachedId;
+        }
+        Long userId = userRepository.findByEmail(email).map(User::getId).orElse(null);
+        if (userId != null) {
+            cache.put(email, userId);
+        }
+        return userId;
+    }
+
     public boolean isCurrentUserIdEquals(Long id) {
-        var currentUserId = getCurrentUser().getId();
+        var currentUserId = getCurrentUserId();
         return Objects.equals(currentUserId, id);
     }
 }
@@ -0,0 +1,52 @@
+-- Schema as previously generated by ddl-auto=update. Existing databases are baselined at this version.
+CREATE TABLE roles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    authority VARCHAR(255)
+);
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255) NOT NULL CONSTRAINT uk_users_email UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    created_at DATE,
+    updated_at DATE
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL CONSTRAINT fk_user_roles_user REFERENCES users (id),
+    role_id BIGINT NOT NULL CONSTRAINT fk_user_roles_role REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE task_statuses (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL CONSTRAINT uk_task_statuses_name UNIQUE,
+    slug VARCHAR(255) NOT NULL CONSTRAINT uk_task_statuses_slug UNIQUE,
+    created_at DATE
+);
+
+CREATE TABLE labels (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(1000) NOT NULL CONSTRAINT uk_labels_name UNIQUE,
+    created_at DATE
+);
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    index INTEGER,
+    description VARCHAR(255),
+    task_status_id BIGINT CONSTRAINT fk_tasks_task_status REFERENCES task_statuses (id),
+    assignee_id BIGINT CONSTRAINT fk_tasks_assignee REFERENCES users (id),
+    created_at DATE
+);
+
+CREATE TABLE task_labels (
+    task_id BIGINT NOT NULL CONSTRAINT fk_task_labels_task REFERENCES tasks (id),
+    label_id BIGINT NOT NULL CONSTRAINT fk_task_labels_label REFERENCES labels (id),
+    PRIMARY KEY (task_id, label_id)
+);
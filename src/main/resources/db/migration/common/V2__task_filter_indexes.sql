@@ -0,0 +1,9 @@
+-- Databases baselined before tasks moved to a pooled sequence do not have it yet.
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+-- Each filter column is followed by id, so a filtered listing is also read in keyset (id) order.
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_id_id ON tasks (assignee_id, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_task_status_id_id ON tasks (task_status_id, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id ON tasks (created_at, id);
+-- The primary key (task_id, label_id) cannot serve lookups by label.
+CREATE INDEX IF NOT EXISTS idx_task_labels_label_id_task_id ON task_labels (label_id, task_id);
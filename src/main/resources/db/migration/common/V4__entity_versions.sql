@@ -0,0 +1,5 @@
+-- Optimistic locking: every update is qualified by the version it read and increments it.
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE labels ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE task_statuses ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,25 @@
+-- Task events written in the same transaction as the task change and published by OutboxRelay.
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY,
+    event_type VARCHAR(32) NOT NULL,
+    task_id BIGINT NOT NULL,
+    payload VARCHAR,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    published_at TIMESTAMP(6) WITH TIME ZONE,
+    -- Outbox ids come from a pooled sequence and do not follow commit order: a transaction holding a lower id
+    -- can commit after one holding a higher id. Readers therefore resume on published_seq, which the relay
+    -- assigns in publication order while holding the single cursor row.
+    published_seq BIGINT
+);
+
+-- The relay reads unpublished events in id order; the purge job deletes by published_at.
+CREATE INDEX idx_outbox_events_published_at_id ON outbox_events (published_at, id);
+CREATE UNIQUE INDEX uk_outbox_events_published_seq ON outbox_events (published_seq);
+
+CREATE TABLE outbox_publish_cursor (
+    id INTEGER PRIMARY KEY,
+    last_seq BIGINT NOT NULL
+);
+INSERT INTO outbox_publish_cursor (id, last_seq) VALUES (1, 0);
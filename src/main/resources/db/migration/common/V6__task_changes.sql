@@ -0,0 +1,16 @@
+-- Creation and modification time of each task for GET /api/tasks/changes. created_at only holds the day, so
+-- inserted_at keeps the instant that tells created from updated tasks. Existing rows are taken as created, and
+-- last modified, at the start of their creation day.
+ALTER TABLE tasks ADD COLUMN inserted_at TIMESTAMP(6) WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL;
+ALTER TABLE tasks ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE;
+UPDATE tasks SET inserted_at = COALESCE(CAST(created_at AS TIMESTAMP(6) WITH TIME ZONE), inserted_at);
+UPDATE tasks SET updated_at = inserted_at;
+-- Covers the changes query, which reads only ids and insertion times.
+CREATE INDEX idx_tasks_updated_at_id_inserted_at ON tasks (updated_at, id, inserted_at);
+
+-- Ids of deleted tasks, kept for app.sync.tombstone-retention so clients can drop them.
+CREATE TABLE task_tombstones (
+    task_id BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+CREATE INDEX idx_task_tombstones_deleted_at ON task_tombstones (deleted_at);
@@ -0,0 +1,6 @@
+-- Change counters behind the ETags of the reference list endpoints, shared by every application instance.
+CREATE TABLE collection_versions (
+    name VARCHAR(32) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+INSERT INTO collection_versions (name, version) VALUES ('labels', 0), ('task_statuses', 0), ('users', 0);
@@ -0,0 +1,7 @@
+-- Trigram index behind the titleCont filter: lower(name) LIKE '%...%' can use it, a B-tree cannot.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_tasks_name_trgm ON tasks USING gin (lower(name) gin_trgm_ops);
+
+-- Task ids used to come from an IDENTITY column: start the sequence after the ids already issued.
+SELECT setval('tasks_seq', (SELECT MAX(id) FROM tasks))
+WHERE (SELECT last_value FROM tasks_seq) < (SELECT MAX(id) FROM tasks);
@@ -0,0 +1,26 @@
+package hexlet.code;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+public class CacheClearingTestExecutionListener extends AbstractTestExecutionListener {
+
+    // The embedded database is refreshed before each test, so cached entries must not outlive it.
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        CacheManager cacheManager = testContext.getApplicationContext().getBean(CacheManager.class);
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        // Second-level cache regions, query results included, would otherwise serve rows of the previous database.
+        testContext.getApplicationContext().getBean(EntityManagerFactory.class).getCache()
+                .unwrap(org.hibernate.Cache.class)
+                .evictAllRegions();
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Inherited;
@@ -20,5 +21,7 @@ import java.lang.annotation.Target;
 @AutoConfigureEmbeddedDatabase
 @ActiveProfiles("test")
 @Import(TestDataProviderConfig.class)
+@TestExecutionListeners(listeners = {CacheClearingTestExecutionListener.class, SqlBudgetTestExecutionListener.class},
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 public @interface IntegrationTest {
 }
@@ -0,0 +1,28 @@
+package hexlet.code;
+
+import hexlet.code.component.SqlBudgetInterceptor;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import java.util.List;
+
+// Fails a test when any request it made went over its @SqlBudget (or the default statement budget).
+public class SqlBudgetTestExecutionListener extends AbstractTestExecutionListener {
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        interceptor(testContext).drainViolations();
+    }
+
+    @Override
+    public void afterTestMethod(TestContext testContext) {
+        List<String> violations = interceptor(testContext).drainViolations();
+        if (!violations.isEmpty()) {
+            throw new AssertionError("SQL budget exceeded:\n" + String.join("\n", violations));
+        }
+    }
+
+    private static SqlBudgetInterceptor interceptor(TestContext testContext) {
+        return testContext.getApplicationContext().getBean(SqlBudgetInterceptor.class);
+    }
+}
@@ -27,6 +27,7 @@ public class TestModelGenerator {
     private void init() {
         userModel = Instancio.of(User.class)
                 .ignore(Select.field(User::getId))
+                .ignore(Select.field(User::getVersion))
                 .ignore(Select.field(User::getRoles))
                 .ignore(Select.field(User::getCreatedAt))
                 .supply(Select.field(User::getFirstName), () -> faker.name().firstName())
@@ -37,14 +38,18 @@ public class TestModelGenerator {
 
         taskStatusModel = Instancio.of(TaskStatus.class)
                 .ignore(Select.field(TaskStatus::getId))
+                .ignore(Select.field(TaskStatus::getVersion))
                 .ignore(Select.field(TaskStatus::getCreatedAt))
                 .toModel();
 
         taskModel = Instancio.of(Task.class)
                 .ignore(Select.field(Task::getId))
+                .ignore(Select.field(Task::getVersion))
                 .ignore(Select.field(Task::getTaskStatus))
                 .ignore(Select.field(Task::getAssignee))
                 .ignore(Select.field(Task::getCreatedAt))
+                .ignore(Select.field(Task::getInsertedAt))
+                .ignore(Select.field(Task::getUpdatedAt))
                 .ignore(Select.field(Task::getLabels))
                 .toModel();
     }
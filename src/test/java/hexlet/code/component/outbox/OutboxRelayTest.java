@@ -0,0 +1,152 @@
+package hexlet.code.component.outbox;
+
+import hexlet.code.IntegrationTest;
+import hexlet.code.controller.TaskController;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.model.TaskEventType;
+import hexlet.code.repository.OutboxEventRepository;
+import hexlet.code.repository.OutboxPublishCursorRepository;
+import hexlet.code.util.JWTUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// Without the application sink, so the stream is shown to depend on the outbox alone.
+@IntegrationTest
+@TestPropertySource(properties = "app.outbox.sinks=broker")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private TaskEventOutbox taskEventOutbox;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private OutboxPublishCursorRepository outboxPublishCursorRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TaskEventStream taskEventStream;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JWTUtils jwtUtils;
+
+    @Test
+    void eventsArePublishedInCommitOrder() throws Exception {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        var appended = new CountDownLatch(1);
+        var commit = new CountDownLatch(1);
+        // The first transaction takes the lower outbox id but commits after the second one.
+        var slowTransaction = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            taskEventOutbox.appendDeleted(List.of(1L));
+            outboxEventRepository.flush();
+            appended.countDown();
+            try {
+                commit.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }));
+        assertThat(appended.await(10, TimeUnit.SECONDS)).isTrue();
+        transactionTemplate.executeWithoutResult(status -> taskEventOutbox.appendDeleted(List.of(2L)));
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+        commit.countDown();
+        slowTransaction.get(10, TimeUnit.SECONDS);
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        List<OutboxEvent> published = outboxEventRepository.findPublishedAfter(0, PageRequest.ofSize(10));
+        assertThat(published).extracting(OutboxEvent::getTaskId).containsExactly(2L, 1L);
+        assertThat(published.get(0).getId()).isGreaterThan(published.get(1).getId());
+        // A reader resuming after the first publication still receives the event with the lower id.
+        assertThat(outboxEventRepository.findPublishedAfter(published.get(0).getPublishedSeq(),
+                PageRequest.ofSize(10)))
+                .extracting(OutboxEvent::getTaskId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void streamSendsEventsRelayedAfterSubscribing() throws Exception {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> taskEventOutbox.appendDeleted(List.of(1L)));
+        outboxRelay.relayBatch();
+        long seenSeq = outboxPublishCursorRepository.findLastSeq();
+        String token = jwtUtils.generateToken("reader@example.com", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        var result = mockMvc.perform(get(TaskController.STREAM_PATH)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header("Last-Event-ID", String.valueOf(seenSeq)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        transactionTemplate.executeWithoutResult(status -> taskEventOutbox.appendDeleted(List.of(2L)));
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        try {
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    assertThat(result.getResponse().getContentAsString())
+                            .contains("id:" + (seenSeq + 1))
+                            .contains("event:" + TaskEventType.TASK_DELETED)
+                            .doesNotContain("id:" + seenSeq + "\n"));
+        } finally {
+            taskEventStream.closeAll();
+        }
+    }
+
+    @Test
+    void streamResetsClientsThatMissedPurgedEvents() throws Exception {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        long seenSeq = outboxPublishCursorRepository.findLastSeq();
+        transactionTemplate.executeWithoutResult(status -> taskEventOutbox.appendDeleted(List.of(1L, 2L, 3L)));
+        outboxRelay.relayBatch();
+        List<OutboxEvent> published = outboxEventRepository.findPublishedAfter(seenSeq, PageRequest.ofSize(10));
+        assertThat(published).hasSize(3);
+        String token = jwtUtils.generateToken("reader@example.com", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        try {
+            // The first two events are purged: the third alone would leave the client without them.
+            outboxEventRepository.deleteAll(published.subList(0, 2));
+            assertThat(streamAfter(token, seenSeq))
+                    .contains("event:" + TaskEventStream.RESET_EVENT)
+                    .doesNotContain("event:" + TaskEventType.TASK_DELETED);
+
+            // Everything after the client's id is purged.
+            outboxEventRepository.deleteAll(published.subList(2, 3));
+            assertThat(streamAfter(token, seenSeq)).contains("event:" + TaskEventStream.RESET_EVENT);
+
+            // A client that saw the last event has nothing to catch up on.
+            assertThat(streamAfter(token, published.get(2).getPublishedSeq()))
+                    .doesNotContain("event:" + TaskEventStream.RESET_EVENT);
+        } finally {
+            taskEventStream.closeAll();
+        }
+    }
+
+    private String streamAfter(String token, long lastEventId) throws Exception {
+        var result = mockMvc.perform(get(TaskController.STREAM_PATH)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header("Last-Event-ID", String.valueOf(lastEventId)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return result.getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,82 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.IntegrationTest;
+import hexlet.code.TestModelGenerator;
+import hexlet.code.component.DataInitializer;
+import hexlet.code.dto.AuthRequest;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// New digests are pbkdf2 here, so an outdated pbkdf2 digest is only upgraded if its iteration count is known.
+@IntegrationTest
+@TestPropertySource(properties = {
+    "app.security.password.algorithm=pbkdf2",
+    "app.security.password.pbkdf2-iterations=" + AuthenticationControllerPbkdf2Test.ITERATIONS
+})
+class AuthenticationControllerPbkdf2Test {
+
+    static final int ITERATIONS = 2000;
+    private static final String PASSWORD = "qwerty123";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TestModelGenerator testModelGenerator;
+    @Autowired
+    private DataInitializer dataInitializer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        dataInitializer.initializeRoles();
+        testUser = Instancio.of(testModelGenerator.getUserModel()).create();
+    }
+
+    // 0: a digest stored before the iteration count was recorded, made with the configured count.
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1000})
+    void loginRehashesOutdatedPbkdf2Digest(int storedIterations) throws Exception {
+        String digest = new Pbkdf2PasswordEncoder("", 16, storedIterations == 0 ? ITERATIONS : storedIterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256).encode(PASSWORD);
+        String storedDigest = "{pbkdf2}" + (storedIterations == 0 ? "" : storedIterations + "$") + digest;
+        testUser.setPasswordDigest(storedDigest);
+        userRepository.save(testUser);
+
+        var authRequest = new AuthRequest();
+        authRequest.setUsername(testUser.getEmail());
+        authRequest.setPassword(PASSWORD);
+        mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(authRequest)))
+                .andExpect(status().isOk());
+
+        String rehashed = userRepository.findByEmail(testUser.getEmail()).orElseThrow().getPasswordDigest();
+        assertThat(rehashed)
+                .isNotEqualTo(storedDigest)
+                .startsWith("{pbkdf2}" + ITERATIONS + "$");
+        assertThat(passwordEncoder.matches(PASSWORD, rehashed)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(rehashed)).isFalse();
+    }
+}
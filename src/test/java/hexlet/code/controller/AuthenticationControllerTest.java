@@ -0,0 +1,165 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.IntegrationTest;
+import hexlet.code.TestModelGenerator;
+import hexlet.code.component.CredentialVerificationLimiter;
+import hexlet.code.component.DataInitializer;
+import hexlet.code.config.properties.LoginThrottleProperties;
+import hexlet.code.dto.AuthRequest;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Slf4j
+@IntegrationTest
+class AuthenticationControllerTest {
+
+    private static final String PASSWORD = "qwerty123";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TestModelGenerator testModelGenerator;
+    @Autowired
+    private DataInitializer dataInitializer;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CredentialVerificationLimiter credentialVerificationLimiter;
+    @Autowired
+    private LoginThrottleProperties loginThrottleProperties;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        dataInitializer.initializeRoles();
+        testUser = Instancio.of(testModelGenerator.getUserModel()).create();
+        // Digest in the format stored before hashing became configurable: bcrypt without an {id} prefix.
+        testUser.setPasswordDigest(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        userRepository.save(testUser);
+    }
+
+    @Test
+    void loginUpgradesLegacyPasswordDigest() throws Exception {
+        var authRequest = new AuthRequest();
+        authRequest.setUsername(testUser.getEmail());
+        authRequest.setPassword(PASSWORD);
+
+        var request = post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(authRequest));
+        var result = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(result.getResponse().getContentAsString()).isNotBlank();
+
+        User reloaded = userRepository.findByEmail(testUser.getEmail()).orElseThrow();
+        assertThat(reloaded.getPasswordDigest()).startsWith("{bcrypt}");
+    }
+
+    @Test
+    void loginIsRejectedWhileVerificationCapacityIsExhausted() throws Exception {
+        int maxConcurrent = loginThrottleProperties.getMaxConcurrent();
+        int maxQueue = loginThrottleProperties.getMaxQueue();
+        long queueWaits = meterRegistry.timer("auth.login.queue.wait").count();
+        long verifications = meterRegistry.timer("auth.login.verification").count();
+        var verifying = new CountDownLatch(maxConcurrent);
+        var finish = new CountDownLatch(1);
+        List<Future<?>> logins = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Every slot is busy and every queue place taken.
+            for (int i = 0; i < maxConcurrent + maxQueue; i++) {
+                logins.add(executor.submit(() -> credentialVerificationLimiter.verify(() -> {
+                    verifying.countDown();
+                    try {
+                        return finish.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                })));
+            }
+            assertThat(verifying.await(10, TimeUnit.SECONDS)).isTrue();
+            await().atMost(Duration.ofSeconds(5)).until(() ->
+                    meterRegistry.get("auth.login.queue.depth").gauge().value() == maxQueue);
+
+            var authRequest = new AuthRequest();
+            authRequest.setUsername(testUser.getEmail());
+            authRequest.setPassword(PASSWORD);
+            mockMvc.perform(post("/api/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(authRequest)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER,
+                            String.valueOf(Math.max(1, loginThrottleProperties.getRetryAfter().toSeconds()))));
+
+            finish.countDown();
+            for (Future<?> login : logins) {
+                login.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        // The queued logins got a slot in time and were timed both waiting and verifying.
+        assertThat(meterRegistry.timer("auth.login.queue.wait").count() - queueWaits).isEqualTo(maxQueue);
+        assertThat(meterRegistry.timer("auth.login.verification").count() - verifications)
+                .isEqualTo(maxConcurrent + maxQueue);
+        assertThat(meterRegistry.counter("auth.login.rejected").count()).isPositive();
+    }
+
+    @Test
+    void loginWithWrongPassword() throws Exception {
+        var authRequest = new AuthRequest();
+        authRequest.setUsername(testUser.getEmail());
+        authRequest.setPassword("wrong-password");
+
+        var request = post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(authRequest));
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void onlyHealthIsPublicOnTheActuator() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.IntegrationTest;
 import hexlet.code.TestModelGenerator;
 import hexlet.code.component.DataInitializer;
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.label.LabelCreateDto;
 import hexlet.code.dto.label.LabelResponseDto;
 import hexlet.code.dto.label.LabelUpdateDto;
@@ -27,13 +28,16 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Set;
 
-import static hexlet.code.handler.GlobalExceptionHandler.LABEL_DELETE_ERROR_MESSAGE;
+import static hexlet.code.exception.ConflictException.LABEL_DELETE_ERROR_MESSAGE;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.core.StringContains.containsString;
@@ -41,6 +45,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -69,6 +74,12 @@ class LabelControllerTest {
 
     @Autowired
     private LabelMapper labelMapper;
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     private User testUser;
     private String testUserToken;
@@ -130,6 +141,60 @@ class LabelControllerTest {
         assertThat(responseDtoList).containsExactlyInAnyOrderElementsOf(expectedDtoList);
     }
 
+    @Test
+    void getLabelsNotModified() throws Exception {
+        var result = mockMvc.perform(get("/api/labels")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/labels")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        var requestDto = new LabelCreateDto();
+        requestDto.setName("newLabel");
+        mockMvc.perform(post("/api/labels")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated());
+
+        var changedResult = mockMvc.perform(get("/api/labels")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(changedResult.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(changedResult.getResponse().getContentAsString()).contains("newLabel");
+    }
+
+    // The version lives in the database, so a write committed by another instance changes the ETag here too.
+    @Test
+    void getLabelsIsModifiedByAnotherInstanceWrite() throws Exception {
+        String etag = mockMvc.perform(get("/api/labels")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        jdbcTemplate.update("UPDATE collection_versions SET version = version + 1 WHERE name = 'labels'");
+
+        var changedResult = mockMvc.perform(get("/api/labels")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(changedResult.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
     @Test
     void createLabel() throws Exception {
         var requestDto = new LabelCreateDto();
@@ -228,4 +293,32 @@ class LabelControllerTest {
                 .andExpect(status().isConflict())
                 .andExpect(content().string(containsString(LABEL_DELETE_ERROR_MESSAGE)));
     }
+
+    @Test
+    void renamedAndDeletedLabelIsNotServedFromReferenceCache() throws Exception {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        Label label = labelRepository.findByName("bug").orElseGet(Assertions::fail);
+        Set<Long> ids = Set.of(label.getId());
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(referenceDataCache.findLabelsByIds(ids)).extracting(Label::getName).containsExactly("bug"));
+
+        var requestDto = new LabelUpdateDto();
+        requestDto.setName(JsonNullable.of("defect"));
+        mockMvc.perform(put("/api/labels/" + label.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk());
+
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(referenceDataCache.findLabelsByIds(ids)).extracting(Label::getName)
+                        .containsExactly("defect"));
+
+        mockMvc.perform(delete("/api/labels/" + label.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isNoContent());
+
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(referenceDataCache.findLabelsByIds(ids)).isEmpty());
+    }
 }
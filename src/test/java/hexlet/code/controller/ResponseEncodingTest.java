@@ -0,0 +1,111 @@
+package hexlet.code.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import hexlet.code.TestModelGenerator;
+import hexlet.code.component.DataInitializer;
+import hexlet.code.dto.task.TaskResponseDto;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.assertj.core.api.Assertions;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// server.compression is applied by the embedded Tomcat, which MockMvc bypasses, so this test talks to a real port.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureEmbeddedDatabase
+@ActiveProfiles("test")
+class ResponseEncodingTest {
+
+    private static final int TASKS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TestModelGenerator testModelGenerator;
+    @Autowired
+    private JWTUtils jwtUtils;
+    @Autowired
+    private DataInitializer dataInitializer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    private String testUserToken;
+
+    @BeforeEach
+    void setUp() {
+        dataInitializer.initializeRoles();
+        dataInitializer.initializeTaskStatuses();
+        TaskStatus draftStatus = taskStatusRepository.findBySlug("draft").orElseGet(Assertions::fail);
+
+        User testUser = Instancio.of(testModelGenerator.getUserModel()).create();
+        testUserToken = jwtUtils.generateToken(testUser.getEmail(),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        userRepository.save(testUser);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = Instancio.of(testModelGenerator.getTaskModel()).create();
+            task.setDescription("Reproduce the layout issue on narrow screens and attach a screenshot " + i);
+            task.setTaskStatus(draftStatus);
+            task.setAssignee(testUser);
+            taskRepository.save(task);
+        }
+    }
+
+    @Test
+    void largeJsonResponseIsGzipped() throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks"))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .GET()
+                .build();
+        HttpResponse<InputStream> response;
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        }
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        List<TaskResponseDto> tasks;
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            tasks = objectMapper.readValue(body, new TypeReference<>() {
+            });
+        }
+        assertThat(tasks).hasSize(TASKS);
+    }
+
+    @Test
+    void objectMapperSerializesWithBlackbird() {
+        assertThat(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+    }
+}
@@ -4,42 +4,80 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.IntegrationTest;
 import hexlet.code.TestModelGenerator;
 import hexlet.code.component.DataInitializer;
+import hexlet.code.component.LocalReferenceDataCache;
+import hexlet.code.component.SqlStatementRecorder;
+import hexlet.code.component.outbox.OutboxRelay;
+import hexlet.code.component.outbox.TaskEventStream;
+import hexlet.code.config.CacheConfig;
+import hexlet.code.dto.task.TaskBulkUpdateDto;
+import hexlet.code.dto.task.TaskChangesToken;
 import hexlet.code.dto.task.TaskCreateDto;
+import hexlet.code.dto.task.TaskEventDto;
+import hexlet.code.dto.task.TaskFiltrationDto;
+import hexlet.code.dto.task.TaskResponseDto;
 import hexlet.code.dto.task.TaskUpdateDto;
+import hexlet.code.exception.PreconditionFailedException;
 import hexlet.code.model.Label;
 import hexlet.code.model.Task;
+import hexlet.code.model.TaskEventType;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.service.TaskService;
+import hexlet.code.service.impl.TaskServiceImpl;
 import hexlet.code.util.JWTUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
 @IntegrationTest
+@RecordApplicationEvents
 class TaskControllerTest {
 
     @Autowired
@@ -61,6 +99,26 @@ class TaskControllerTest {
     private UserRepository userRepository;
     @Autowired
     private LabelRepository labelRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private TaskEventStream taskEventStream;
+    @Autowired
+    private ApplicationEvents applicationEvents;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     private User testUser;
     private Task testTask;
@@ -108,6 +166,128 @@ class TaskControllerTest {
                         v -> v.node("createdAt").isNotNull());
     }
 
+    @Test
+    void getTaskByIdReadsReferenceDataFromSecondLevelCache() throws Exception {
+        var request = get("/api/tasks/" + testTask.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getEntityStatistics(TaskStatus.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Label.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getCollectionStatistics(Task.class.getName() + ".labels").getLoadCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void getTaskByIdLoadsNeitherAssigneeNorRoles() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var request = get("/api/tasks/" + testTask.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"assignee_id\":" + testUser.getId())));
+
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getCollectionStatistics(User.class.getName() + ".roles").getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Task.class.getName()).getLoadCount()).isOne();
+    }
+
+    @Test
+    void getTaskChangesSinceToken() throws Exception {
+        insertedBeforeToken(testTask);
+        var tokenResult = mockMvc.perform(get("/api/tasks/changes")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        String since = objectMapper.readTree(tokenResult.getResponse().getContentAsString()).get("next").asText();
+
+        Task deletedTask = Instancio.of(testModelGenerator.getTaskModel()).create();
+        taskRepository.save(deletedTask);
+        mockMvc.perform(delete("/api/tasks/" + deletedTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isNoContent());
+        var requestDto = new TaskUpdateDto();
+        requestDto.setTitle(JsonNullable.of("changed"));
+        mockMvc.perform(put("/api/tasks/" + testTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk());
+        Task createdTask = Instancio.of(testModelGenerator.getTaskModel()).create();
+        taskRepository.save(createdTask);
+
+        var result = mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", since)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(result.getResponse().getContentAsString())
+                .and(v -> v.node("created").isArray().containsExactly(createdTask.getId()),
+                        v -> v.node("updated").isArray().containsExactly(testTask.getId()),
+                        v -> v.node("deleted").isArray().containsExactly(deletedTask.getId()),
+                        v -> v.node("next").isString());
+    }
+
+    @Test
+    void taskCreatedAndUpdatedSinceTokenIsReportedAsCreated() throws Exception {
+        insertedBeforeToken(testTask);
+        String since = new TaskChangesToken(Instant.now().minus(Duration.ofMinutes(1))).encode();
+        Task createdTask = Instancio.of(testModelGenerator.getTaskModel()).create();
+        createdTask.setTaskStatus(draftStatus);
+        taskRepository.save(createdTask);
+        var requestDto = new TaskUpdateDto();
+        requestDto.setTitle(JsonNullable.of("changed"));
+        mockMvc.perform(put("/api/tasks/" + createdTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk());
+        assertThat(taskRepository.findById(createdTask.getId()).orElseThrow().getVersion()).isPositive();
+
+        var result = mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", since)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(result.getResponse().getContentAsString())
+                .and(v -> v.node("created").isArray().containsExactly(createdTask.getId()),
+                        v -> v.node("updated").isArray().isEmpty());
+    }
+
+    @Test
+    void taskCountsAreEvictedOnlyAfterTheWriteCommits() {
+        Cache taskCounts = cacheManager.getCache(CacheConfig.TASK_COUNTS_CACHE);
+        taskCounts.put("probe", 1L);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskService.deleteTask(testTask.getId());
+            // Until the commit other transactions still see the task, so the cached counts stay.
+            assertThat(taskCounts.get("probe")).isNotNull();
+        });
+        assertThat(taskCounts.get("probe")).isNull();
+    }
+
+    @Test
+    void getTaskChangesWithExpiredToken() throws Exception {
+        String since = new TaskChangesToken(Instant.now().minus(Duration.ofDays(365))).encode();
+        mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", since)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/api/tasks/changes")
+                        .param("since", "not-a-token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getTaskByIdNotFound() throws Exception {
         long notExistedId = 99999L;
@@ -163,6 +343,200 @@ class TaskControllerTest {
                 .isEmpty();
     }
 
+    @Test
+    void getTasksIsTimedPerFilterShape() throws Exception {
+        long before = queryCount("status+label");
+
+        var request = get("/api/tasks?status=" + draftStatus.getSlug() + "&labelId=" + featureLabel.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        assertThat(queryCount("status+label")).isEqualTo(before + 1);
+        assertThat(meterRegistry.find("app.service").tag("method", "getAllTasks").timer()).isNotNull();
+    }
+
+    @Test
+    void getTasksByTitleIgnoringCase() throws Exception {
+        Task loginTask = Instancio.of(testModelGenerator.getTaskModel()).create();
+        loginTask.setName("Fix Login_Form bug");
+        loginTask.setTaskStatus(draftStatus);
+        taskRepository.save(loginTask);
+        Task otherTask = Instancio.of(testModelGenerator.getTaskModel()).create();
+        otherTask.setName("Fix LoginXForm layout");
+        otherTask.setTaskStatus(draftStatus);
+        taskRepository.save(otherTask);
+
+        for (String titleCont : List.of("login_form", "LOGIN_FORM B", "x login_")) {
+            var request = get("/api/tasks")
+                    .param("titleCont", titleCont)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+            var result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertThatJson(result.getResponse().getContentAsString())
+                    .isArray()
+                    .hasSize(1)
+                    .first().node("id").isEqualTo(loginTask.getId());
+        }
+    }
+
+    @Test
+    void getTasksPage() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Task task = Instancio.of(testModelGenerator.getTaskModel()).create();
+            task.setTaskStatus(draftStatus);
+            taskRepository.save(task);
+        }
+
+        var request = get("/api/tasks")
+                .param("limit", "2")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        var result = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "4"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+        assertThatJson(result.getResponse().getContentAsString())
+                .isArray()
+                .hasSize(2);
+
+        var request2 = get("/api/tasks")
+                .param("limit", "2")
+                .param("after", result.getResponse().getHeader("X-Next-Cursor"))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        var result2 = mockMvc.perform(request2)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andReturn();
+        assertThatJson(result2.getResponse().getContentAsString())
+                .isArray()
+                .hasSize(2);
+    }
+
+    @Test
+    void exportTasks() throws Exception {
+        Task otherTask = Instancio.of(testModelGenerator.getTaskModel()).create();
+        otherTask.setTaskStatus(draftStatus);
+        taskRepository.save(otherTask);
+
+        var request = get("/api/tasks/export")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        var asyncResult = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThatJson(lines[0])
+                .and(v -> v.node("id").isEqualTo(testTask.getId()),
+                        v -> v.node("status").isEqualTo(draftStatus.getSlug()),
+                        v -> v.node("taskLabelIds").isArray().containsExactly(featureLabel.getId()));
+        assertThatJson(lines[1]).node("id").isEqualTo(otherTask.getId());
+
+        var filteredRequest = get("/api/tasks/export")
+                .param("format", "json")
+                .param("assigneeId", String.valueOf(testUser.getId()))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        var filteredAsyncResult = mockMvc.perform(filteredRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var filteredResult = mockMvc.perform(asyncDispatch(filteredAsyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+        assertThatJson(filteredResult.getResponse().getContentAsString())
+                .isArray()
+                .hasSize(1)
+                .first().node("id").isEqualTo(testTask.getId());
+    }
+
+    // Label ids are read in one statement however many tasks are listed, and in one per exported batch.
+    @ParameterizedTest
+    @ValueSource(ints = {0, 2048, 4500})
+    void listAndExportStatementsDoNotGrowWithLabelIds(int otherTasks) throws Exception {
+        List<Task> tasks = new ArrayList<>(otherTasks);
+        for (int i = 0; i < otherTasks; i++) {
+            Task task = Instancio.of(testModelGenerator.getTaskModel()).create();
+            task.setTaskStatus(draftStatus);
+            task.setLabels(Set.of(featureLabel));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        int total = otherTasks + 1;
+
+        sqlStatementRecorder.start();
+        List<TaskResponseDto> listed = taskService.getAllTasks(new TaskFiltrationDto());
+        int listStatements = sqlStatementRecorder.stop().getStatements();
+        assertThat(listed).hasSize(total)
+                .allSatisfy(task -> assertThat(task.getTaskLabelIds()).containsExactly(featureLabel.getId()));
+        assertThat(listStatements).isEqualTo(2);
+
+        List<TaskResponseDto> exported = new ArrayList<>(total);
+        sqlStatementRecorder.start();
+        taskService.exportTasks(new TaskFiltrationDto(), exported::addAll);
+        int exportStatements = sqlStatementRecorder.stop().getStatements();
+        assertThat(exported).hasSize(total)
+                .allSatisfy(task -> assertThat(task.getTaskLabelIds()).containsExactly(featureLabel.getId()));
+        int batches = (total + TaskServiceImpl.EXPORT_BATCH_SIZE - 1) / TaskServiceImpl.EXPORT_BATCH_SIZE;
+        assertThat(exportStatements).isEqualTo(1 + batches);
+
+        // The listing endpoint stays within its @SqlBudget, which fails the test otherwise.
+        mockMvc.perform(get("/api/tasks")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getTasksPageWithInvalidCursor() throws Exception {
+        var request = get("/api/tasks")
+                .param("limit", "2")
+                .param("after", "not-a-cursor")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTasksStatementCountDoesNotGrowWithRows() throws Exception {
+        var request = get("/api/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        var pageRequest = get("/api/tasks")
+                .param("limit", "50")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        long listStatements = countStatements(request);
+        long pageStatements = countStatements(pageRequest);
+
+        for (int i = 0; i < 20; i++) {
+            User assignee = Instancio.of(testModelGenerator.getUserModel()).create();
+            userRepository.save(assignee);
+            Task task = Instancio.of(testModelGenerator.getTaskModel()).create();
+            task.setAssignee(assignee);
+            task.setTaskStatus(draftStatus);
+            task.setLabels(Set.of(featureLabel));
+            taskRepository.save(task);
+        }
+
+        assertThat(countStatements(request)).isEqualTo(listStatements);
+        assertThat(countStatements(pageRequest)).isEqualTo(pageStatements);
+    }
+
+    private long countStatements(RequestBuilder request) throws Exception {
+        cacheManager.getCache(CacheConfig.TASK_COUNTS_CACHE).clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
     @Test
     void createTaskStatus() throws Exception {
         TaskStatus taskStatus = taskStatusRepository.findBySlug("published").orElseGet(Assertions::fail);
@@ -192,6 +566,8 @@ class TaskControllerTest {
                         v -> v.node("status").isEqualTo(taskStatus.getSlug()),
                         v -> v.node("taskLabelIds").isArray().containsExactlyInAnyOrder(featureLabel.getId()),
                         v -> v.node("createdAt").isNotNull());
+        assertThat(cacheManager.getCache(LocalReferenceDataCache.TASK_STATUSES_BY_SLUG_CACHE)
+                .get(taskStatus.getSlug(), Long.class)).isEqualTo(taskStatus.getId());
     }
 
     @Test
@@ -229,6 +605,108 @@ class TaskControllerTest {
                         v -> v.node("taskLabelIds").isArray().containsExactlyInAnyOrder(newLabel.getId()));
     }
 
+    @Test
+    void updateTaskWithIfMatch() throws Exception {
+        String etag = mockMvc.perform(get("/api/tasks/" + testTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        var requestDto = new TaskUpdateDto();
+        requestDto.setTitle(JsonNullable.of("firstEditor"));
+
+        mockMvc.perform(put("/api/tasks/" + testTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        requestDto.setTitle(JsonNullable.of("secondEditor"));
+        mockMvc.perform(put("/api/tasks/" + testTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed());
+        assertThat(taskRepository.findById(testTask.getId()).orElseGet(Assertions::fail).getName())
+                .isEqualTo("firstEditor");
+    }
+
+    @Test
+    void updateWithIfMatchLosingTheRaceAtFlushIsPreconditionFailed() {
+        var requestDto = new TaskUpdateDto();
+        requestDto.setTitle(JsonNullable.of("lateEditor"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Long version = taskRepository.findById(testTask.getId()).orElseGet(Assertions::fail).getVersion();
+            // Another writer commits between the version check and the flush.
+            jdbcTemplate.update("UPDATE tasks SET version = version + 1 WHERE id = ?", testTask.getId());
+            assertThatThrownBy(() -> taskService.updateTask(testTask.getId(), requestDto, version))
+                    .isInstanceOf(PreconditionFailedException.class);
+            status.setRollbackOnly();
+        });
+    }
+
+    @Test
+    void taskChangesArePublishedThroughOutbox() throws Exception {
+        var requestDto = new TaskUpdateDto();
+        requestDto.setTitle(JsonNullable.of("published"));
+        mockMvc.perform(put("/api/tasks/" + testTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tasks/" + testTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isNoContent());
+        assertThat(applicationEvents.stream(TaskEventDto.class)).isEmpty();
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(2);
+
+        List<TaskEventDto> events = applicationEvents.stream(TaskEventDto.class).toList();
+        assertThat(events)
+                .extracting(TaskEventDto::getType, TaskEventDto::getTaskId)
+                .containsExactly(tuple(TaskEventType.TASK_UPDATED, testTask.getId()),
+                        tuple(TaskEventType.TASK_DELETED, testTask.getId()));
+        assertThat(events.get(0).getTask().getTitle()).isEqualTo("published");
+        assertThat(events.get(1).getTask()).isNull();
+        // Published events are not delivered again.
+        assertThat(outboxRelay.relayBatch()).isZero();
+    }
+
+    @Test
+    void streamTasksReplaysEventsAfterLastEventId() throws Exception {
+        var requestDto = new TaskUpdateDto();
+        requestDto.setTitle(JsonNullable.of("streamed"));
+        mockMvc.perform(put("/api/tasks/" + testTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk());
+        outboxRelay.relayBatch();
+
+        // EventSource sends the token as a query parameter.
+        var result = mockMvc.perform(get("/api/tasks/stream")
+                        .param("access_token", testUserToken)
+                        .header("Last-Event-ID", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        taskEventStream.closeAll();
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(result.getResponse().getContentAsString())
+                .contains("event:" + TaskEventType.TASK_UPDATED)
+                .contains("\"title\":\"streamed\"");
+    }
+
+    @Test
+    void accessTokenQueryParameterIsOnlyAcceptedByStream() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("access_token", testUserToken))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     void deleteTaskStatus() throws Exception {
         var request = delete("/api/tasks/" + testTask.getId())
@@ -239,4 +717,186 @@ class TaskControllerTest {
                 .andReturn();
         assertThat(taskRepository.findAll()).isEmpty();
     }
+
+    @Test
+    void existsQueriesSeeOnlyReferencedRows() {
+        User idleUser = Instancio.of(testModelGenerator.getUserModel()).create();
+        userRepository.save(idleUser);
+        TaskStatus unusedStatus = taskStatusRepository.findBySlug("published").orElseGet(Assertions::fail);
+        Label bugLabel = labelRepository.findByName("bug").orElseGet(Assertions::fail);
+
+        assertThat(taskRepository.existsByAssigneeId(testUser.getId())).isTrue();
+        assertThat(taskRepository.existsByAssigneeId(idleUser.getId())).isFalse();
+        assertThat(taskRepository.existsByTaskStatusId(draftStatus.getId())).isTrue();
+        assertThat(taskRepository.existsByTaskStatusId(unusedStatus.getId())).isFalse();
+        assertThat(taskRepository.existsByLabelsId(featureLabel.getId())).isTrue();
+        assertThat(taskRepository.existsByLabelsId(bugLabel.getId())).isFalse();
+    }
+
+    @Test
+    void bulkCreateTasks() throws Exception {
+        List<TaskCreateDto> requestDtos = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            var dto = new TaskCreateDto();
+            dto.setTitle("bulkTask" + i);
+            dto.setStatus(draftStatus.getSlug());
+            dto.setAssigneeId(testUser.getId());
+            dto.setTaskLabelIds(Set.of(featureLabel.getId()));
+            requestDtos.add(dto);
+        }
+        var invalidDto = new TaskCreateDto();
+        invalidDto.setTitle("invalidTask");
+        invalidDto.setStatus("unknown_status");
+        requestDtos.add(invalidDto);
+
+        var request = post("/api/tasks/bulk")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDtos));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var result = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        // Lookups run once per batch and inserts go out as JDBC batches, not one statement per task
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).isArray().hasSize(31);
+        assertThatJson(body).node("[0]")
+                .and(v -> v.node("position").isEqualTo(0),
+                        v -> v.node("status").isEqualTo(201),
+                        v -> v.node("task.title").isEqualTo("bulkTask0"),
+                        v -> v.node("task.assignee_id").isEqualTo(testUser.getId()),
+                        v -> v.node("task.taskLabelIds").isArray().containsExactly(featureLabel.getId()));
+        assertThatJson(body).node("[30]")
+                .and(v -> v.node("position").isEqualTo(30),
+                        v -> v.node("status").isEqualTo(404),
+                        v -> v.node("error").asString().contains("unknown_status"));
+        assertThat(taskRepository.count()).isEqualTo(31);
+    }
+
+    @Test
+    void bulkUpdateAndDeleteTasks() throws Exception {
+        var updateDto = new TaskBulkUpdateDto();
+        updateDto.setId(testTask.getId());
+        updateDto.setTitle(JsonNullable.of("bulkUpdated"));
+        updateDto.setTaskLabelIds(JsonNullable.of(Set.of()));
+        var missingDto = new TaskBulkUpdateDto();
+        missingDto.setId(testTask.getId() + 1000);
+        missingDto.setTitle(JsonNullable.of("missing"));
+
+        var updateRequest = put("/api/tasks/bulk")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(updateDto, missingDto)));
+        var updateResult = mockMvc.perform(updateRequest)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(updateResult.getResponse().getContentAsString())
+                .and(v -> v.node("[0].status").isEqualTo(200),
+                        v -> v.node("[0].task.title").isEqualTo("bulkUpdated"),
+                        v -> v.node("[0].task.taskLabelIds").isArray().isEmpty(),
+                        v -> v.node("[1].status").isEqualTo(404));
+        // Labels are lazy, so the stored task is read inside a transaction.
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Task updatedTask = taskRepository.findById(testTask.getId()).orElseGet(Assertions::fail);
+            assertThat(updatedTask.getName()).isEqualTo("bulkUpdated");
+            assertThat(updatedTask.getLabels()).isEmpty();
+        });
+
+        var deleteRequest = delete("/api/tasks/bulk")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testTask.getId(), testTask.getId() + 1000)));
+        var deleteResult = mockMvc.perform(deleteRequest)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(deleteResult.getResponse().getContentAsString())
+                .and(v -> v.node("[0].status").isEqualTo(204),
+                        v -> v.node("[1].status").isEqualTo(404));
+        assertThat(taskRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void nullBulkItemsFailWithBadRequest() throws Exception {
+        var createDto = new TaskCreateDto();
+        createDto.setTitle("bulkTask");
+        createDto.setStatus(draftStatus.getSlug());
+        String createBody = "[null," + objectMapper.writeValueAsString(createDto) + "]";
+        var createResult = mockMvc.perform(post("/api/tasks/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBody))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(createResult.getResponse().getContentAsString())
+                .and(v -> v.node("[0].status").isEqualTo(400),
+                        v -> v.node("[0].error").asString().contains("must not be null"),
+                        v -> v.node("[1].status").isEqualTo(201));
+
+        var updateResult = mockMvc.perform(put("/api/tasks/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null]"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(updateResult.getResponse().getContentAsString()).node("[0].status").isEqualTo(400);
+
+        var deleteResult = mockMvc.perform(delete("/api/tasks/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null," + testTask.getId() + "]"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThatJson(deleteResult.getResponse().getContentAsString())
+                .and(v -> v.node("[0].status").isEqualTo(400),
+                        v -> v.node("[1].status").isEqualTo(204));
+        assertThat(taskRepository.existsById(testTask.getId())).isFalse();
+    }
+
+    @Test
+    void bulkUpdateReturnsStoredVersion() throws Exception {
+        var updateDto = new TaskBulkUpdateDto();
+        updateDto.setId(testTask.getId());
+        updateDto.setTitle(JsonNullable.of("versioned"));
+
+        var updateResult = mockMvc.perform(put("/api/tasks/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(updateDto))))
+                .andExpect(status().isOk())
+                .andReturn();
+        long storedVersion = taskRepository.findById(testTask.getId()).orElseGet(Assertions::fail).getVersion();
+        assertThat(storedVersion).isPositive();
+        assertThatJson(updateResult.getResponse().getContentAsString())
+                .node("[0].version").isEqualTo(storedVersion);
+
+        // The version is usable as a precondition straight away.
+        var nextDto = new TaskUpdateDto();
+        nextDto.setTitle(JsonNullable.of("versioned again"));
+        mockMvc.perform(put("/api/tasks/" + testTask.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .header(HttpHeaders.IF_MATCH, "\"" + storedVersion + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(nextDto)))
+                .andExpect(status().isOk());
+    }
+
+    private long queryCount(String filterShape) {
+        Timer timer = meterRegistry.find(TaskServiceImpl.QUERY_OBSERVATION)
+                .tags("query", "list", "filter", filterShape)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    // Moves a task's creation and last modification an hour back, before any token a test takes.
+    private void insertedBeforeToken(Task task) {
+        Timestamp hourAgo = Timestamp.from(Instant.now().minus(Duration.ofHours(1)));
+        jdbcTemplate.update("UPDATE tasks SET inserted_at = ?, updated_at = ? WHERE id = ?", hourAgo, hourAgo,
+                task.getId());
+    }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.IntegrationTest;
 import hexlet.code.TestModelGenerator;
 import hexlet.code.component.DataInitializer;
+import hexlet.code.component.ReferenceDataCache;
 import hexlet.code.dto.task_status.TaskStatusCreateDto;
 import hexlet.code.dto.task_status.TaskStatusResponseDto;
 import hexlet.code.dto.task_status.TaskStatusUpdateDto;
@@ -27,10 +28,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
-import static hexlet.code.handler.GlobalExceptionHandler.TASK_STATUS_DELETE_ERROR_MESSAGE;
+import static hexlet.code.exception.ConflictException.TASK_STATUS_DELETE_ERROR_MESSAGE;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.core.StringContains.containsString;
@@ -64,6 +67,10 @@ public class TaskStatusControllerTest {
 
     @Autowired
     private TaskStatusMapper taskStatusMapper;
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     private User testUser;
     private String testUserToken;
@@ -214,4 +221,36 @@ public class TaskStatusControllerTest {
                 .andExpect(status().isConflict())
                 .andExpect(content().string(containsString(TASK_STATUS_DELETE_ERROR_MESSAGE)));
     }
+
+    @Test
+    void renamedAndDeletedStatusIsNotServedFromReferenceCache() throws Exception {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        String oldSlug = dataftTaskStatus.getSlug();
+        String newSlug = "reviewed_draft";
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(referenceDataCache.findTaskStatusBySlug(oldSlug)).isPresent());
+
+        var requestDto = new TaskStatusUpdateDto();
+        requestDto.setName(JsonNullable.of("Reviewed draft"));
+        requestDto.setSlug(JsonNullable.of(newSlug));
+        mockMvc.perform(put("/api/task_statuses/" + dataftTaskStatus.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(referenceDataCache.findTaskStatusBySlug(oldSlug)).isEmpty();
+            assertThat(referenceDataCache.findTaskStatusBySlug(newSlug))
+                    .hasValueSatisfying(taskStatus -> assertThat(taskStatus.getId())
+                            .isEqualTo(dataftTaskStatus.getId()));
+        });
+
+        mockMvc.perform(delete("/api/task_statuses/" + dataftTaskStatus.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken))
+                .andExpect(status().isNoContent());
+
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(referenceDataCache.findTaskStatusBySlug(newSlug)).isEmpty());
+    }
 }
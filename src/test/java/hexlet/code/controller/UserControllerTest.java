@@ -6,6 +6,7 @@ import hexlet.code.TestModelGenerator;
 import hexlet.code.component.DataInitializer;
 import hexlet.code.dto.user.UserCreateDto;
 import hexlet.code.dto.user.UserUpdateDto;
+import hexlet.code.model.Role;
 import hexlet.code.model.Task;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
@@ -13,8 +14,11 @@ import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.util.JWTUtils;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,7 +31,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
-import static hexlet.code.handler.GlobalExceptionHandler.USER_DELETE_ERROR_MESSAGE;
+import static hexlet.code.exception.ConflictException.USER_DELETE_ERROR_MESSAGE;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.core.StringContains.containsString;
@@ -58,7 +62,8 @@ class UserControllerTest {
     private TaskRepository taskRepository;
     @Autowired
     private TaskStatusRepository taskStatusRepository;
-
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     private User testUser;
     private String testUserToken;
@@ -119,6 +124,19 @@ class UserControllerTest {
                         v -> v.node("createdAt").isNotNull());
     }
 
+    @Test
+    void getUsersDoesNotLoadRoles() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var request = get("/api/users")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + testUserToken);
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getCollectionStatistics(User.class.getName() + ".roles").getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Role.class.getName()).getLoadCount()).isZero();
+    }
+
     @Test
     void createUser() throws Exception {
         var requestDto = new UserCreateDto();
@@ -191,6 +209,28 @@ class UserControllerTest {
                         v -> v.node("lastName").isEqualTo(testUser.getLastName()));
     }
 
+    @Test
+    void updateUserWithUserIdClaim() throws Exception {
+        String tokenWithUserId = jwtUtils.generateToken(testUser.getId(), testUser.getEmail(),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        var requestDto = new UserUpdateDto();
+        requestDto.setFirstName(JsonNullable.of("newFname"));
+
+        var request = put("/api/users/" + testUser.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenWithUserId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDto));
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        var foreignRequest = delete("/api/users/" + (testUser.getId() + 1))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenWithUserId);
+        mockMvc.perform(foreignRequest)
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void deleteUser() throws Exception {
         var request = delete("/api/users/" + testUser.getId())
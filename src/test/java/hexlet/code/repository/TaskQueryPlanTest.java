@@ -0,0 +1,188 @@
+package hexlet.code.repository;
+
+import hexlet.code.component.SqlStatementRecorder;
+import hexlet.code.dto.task.TaskFiltrationDto;
+import hexlet.code.dto.task.TaskPageRequestDto;
+import hexlet.code.service.TaskService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseType;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the Flyway migrations on a real Postgres filled with a realistic amount of data, captures the SQL that
+// Hibernate generates for each task filter and checks that the planner serves it from the filter's index.
+@SpringBootTest(properties = {"app.search.title-index=database", "zonky.test.database.refresh=never"})
+@ActiveProfiles("test")
+@AutoConfigureEmbeddedDatabase(type = DatabaseType.POSTGRES, provider = DatabaseProvider.ZONKY)
+class TaskQueryPlanTest {
+
+    private static final int USERS = 1000;
+    private static final int STATUSES = 200;
+    private static final int LABELS = 200;
+    private static final int TASKS = 100_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementRecorder sqlStatementRecorder;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    private long userId;
+    private long statusId;
+    private long labelId;
+
+    // The database is kept between tests, so it is only filled once.
+    @BeforeEach
+    void setUp() {
+        Integer tasks = jdbcTemplate.queryForObject("SELECT count(*) FROM tasks", Integer.class);
+        if (tasks == null || tasks == 0) {
+            seed();
+        }
+        userId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        statusId = jdbcTemplate.queryForObject("SELECT min(id) FROM task_statuses", Long.class);
+        labelId = jdbcTemplate.queryForObject("SELECT min(id) FROM labels", Long.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "assignee | idx_tasks_assignee_id_id",
+        "status | idx_tasks_task_status_id_id",
+        "label | idx_task_labels_label_id_task_id",
+        "title | idx_tasks_name_trgm",
+        "createdAt | idx_tasks_created_at_id",
+        "assigneeReference | idx_tasks_assignee_id_id",
+        "statusReference | idx_tasks_task_status_id_id",
+        "labelReference | idx_task_labels_label_id_task_id",
+        "statusSlug | uk_task_statuses_slug"
+    })
+    void filterUsesIndex(String filter, String index) {
+        List<QueryInfo> queries;
+        sqlStatementRecorder.startCapturing();
+        try {
+            run(filter);
+        } finally {
+            queries = sqlStatementRecorder.stop().getQueries();
+        }
+
+        assertThat(queries).isNotEmpty();
+        String plans = String.join("\n", queries.stream().map(this::explain).toList());
+        assertThat(plans)
+                .contains(index)
+                .doesNotContain("Seq Scan on tasks")
+                .doesNotContain("Seq Scan on task_labels");
+    }
+
+    private void run(String filter) {
+        var filtration = new TaskFiltrationDto();
+        var pageRequest = new TaskPageRequestDto();
+        switch (filter) {
+            case "assignee" -> filtration.setAssigneeId(userId);
+            case "status" -> filtration.setStatus("status-1");
+            case "label" -> filtration.setLabelId(labelId);
+            case "title" -> filtration.setTitleCont("login");
+            case "createdAt" -> pageRequest.setOrderBy(TaskPageRequestDto.ORDER_BY_CREATED_AT);
+            case "assigneeReference" -> {
+                taskRepository.existsByAssigneeId(userId);
+                return;
+            }
+            case "statusReference" -> {
+                taskRepository.existsByTaskStatusId(statusId);
+                return;
+            }
+            case "labelReference" -> {
+                taskRepository.existsByLabelsId(labelId);
+                return;
+            }
+            case "statusSlug" -> {
+                taskStatusRepository.findBySlug("status-1");
+                return;
+            }
+            default -> throw new IllegalArgumentException(filter);
+        }
+        taskService.getTasksPage(filtration, pageRequest);
+    }
+
+    // Binds the captured parameters again, so the planner sees the same values as the real execution.
+    private String explain(QueryInfo query) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.getQuery())) {
+                if (!query.getParametersList().isEmpty()) {
+                    for (ParameterSetOperation operation : query.getParametersList().get(0)) {
+                        bind(statement, operation);
+                    }
+                }
+                StringBuilder plan = new StringBuilder(query.getQuery()).append('\n');
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    private static void bind(PreparedStatement statement, ParameterSetOperation operation) throws SQLException {
+        try {
+            operation.getMethod().invoke(statement, operation.getArgs());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new SQLException("Cannot bind " + operation.getMethod().getName(), e);
+        }
+    }
+
+    // Selectivities as on a busy board: each user, status and label covers well under 1% of the tasks, and
+    // one task title in a thousand mentions "login".
+    private void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO users (first_name, last_name, email, password, created_at)
+                SELECT 'User', 'N' || i, 'user' || i || '@example.com', 'secret', DATE '2024-01-01'
+                FROM generate_series(1, ?) i""", USERS);
+        jdbcTemplate.update("""
+                INSERT INTO task_statuses (name, slug, created_at)
+                SELECT 'Status ' || i, 'status-' || i, DATE '2024-01-01'
+                FROM generate_series(1, ?) i""", STATUSES);
+        jdbcTemplate.update("""
+                INSERT INTO labels (name, created_at)
+                SELECT 'label-' || i, DATE '2024-01-01'
+                FROM generate_series(1, ?) i""", LABELS);
+        jdbcTemplate.update("""
+                INSERT INTO tasks (id, name, task_status_id, assignee_id, created_at, updated_at)
+                SELECT i,
+                       CASE WHEN i % 1000 = 0 THEN 'Fix login ' || i ELSE 'Task ' || md5(i::text) END,
+                       (SELECT min(id) FROM task_statuses) + i % ?,
+                       (SELECT min(id) FROM users) + i % ?,
+                       DATE '2022-01-01' + i % 1000,
+                       now()
+                FROM generate_series(1, ?) i""", STATUSES, USERS, TASKS);
+        // Two distinct labels per task.
+        jdbcTemplate.update("""
+                INSERT INTO task_labels (task_id, label_id)
+                SELECT t.id, (SELECT min(id) FROM labels) + l.n
+                FROM tasks t,
+                     LATERAL (VALUES (t.id % ?), ((t.id % ? + 1 + (t.id / ?) % (? - 1)) % ?)) AS l(n)""",
+                LABELS, LABELS, LABELS, LABELS, LABELS);
+        jdbcTemplate.execute("VACUUM ANALYZE");
+    }
+}